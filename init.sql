@@ -37,6 +37,7 @@ CREATE TABLE IF NOT EXISTS users (
     account_non_expired BOOLEAN DEFAULT TRUE,
     account_non_locked BOOLEAN DEFAULT TRUE,
     credentials_non_expired BOOLEAN DEFAULT TRUE,
+    security_version INTEGER DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
@@ -50,9 +51,10 @@ CREATE TABLE IF NOT EXISTS user_roles (
     FOREIGN KEY (role_id) REFERENCES roles(id) ON DELETE CASCADE
 );
 
--- Create products table
+-- Create products table (ids are allocated in blocks of 50 so inserts can be batched)
+CREATE SEQUENCE IF NOT EXISTS products_id_seq INCREMENT BY 50;
 CREATE TABLE IF NOT EXISTS products (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY DEFAULT nextval('products_id_seq'),
     name VARCHAR(200) NOT NULL,
     description TEXT,
     price DECIMAL(10,2) NOT NULL CHECK (price > 0),
@@ -65,6 +67,7 @@ CREATE TABLE IF NOT EXISTS products (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
+ALTER SEQUENCE products_id_seq INCREMENT BY 50;
 
 -- Insert default roles
 INSERT INTO roles (name, description) VALUES 
@@ -103,6 +106,10 @@ CREATE INDEX IF NOT EXISTS idx_products_brand ON products(brand);
 CREATE INDEX IF NOT EXISTS idx_products_active ON products(active);
 CREATE INDEX IF NOT EXISTS idx_products_price ON products(price);
 CREATE INDEX IF NOT EXISTS idx_products_created_at ON products(created_at);
+CREATE INDEX IF NOT EXISTS idx_products_active_id ON products(active, id);
+CREATE INDEX IF NOT EXISTS idx_products_active_name_id ON products(active, name, id);
+CREATE INDEX IF NOT EXISTS idx_products_active_price_id ON products(active, price, id);
+CREATE INDEX IF NOT EXISTS idx_products_active_created_at_id ON products(active, created_at, id);
 
 -- Create function to automatically update updated_at timestamp
 CREATE OR REPLACE FUNCTION update_updated_at_column()
@@ -0,0 +1,39 @@
+package com.rskworld.cache;
+
+/**
+ * Cache Tagger
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import java.util.Collection;
+
+/**
+ * Names the tags a cache entry depends on, so that a write can evict exactly the entries it affects
+ * instead of the whole cache. Implementations are beans; the {@link TwoLevelCacheManager} records the
+ * tags of every entry stored in {@link #getCacheName()} in Redis sets.
+ */
+public interface CacheTagger {
+
+    String getCacheName();
+
+    /**
+     * @return the tags of the entry stored under {@code key}; empty for entries that are only ever
+     *         evicted by key
+     */
+    Collection<String> tagsFor(String key);
+}
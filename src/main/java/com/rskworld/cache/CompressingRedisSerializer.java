@@ -0,0 +1,147 @@
+package com.rskworld.cache;
+
+/**
+ * Compressing Redis Serializer
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LZ4-compresses values of another serializer once they reach {@code threshold} bytes, such as the
+ * whole-catalog lists of the products cache. A compressed value is a marker byte, the uncompressed
+ * length and the LZ4 block; anything else is handed to the delegate as is, so small values cost
+ * nothing and values written before compression was enabled still read. Values that do not shrink
+ * are stored uncompressed. A {@code threshold} of 0 turns compression off.
+ *
+ * <p>The uncompressed length of a compressed value is checked against {@code maxSize} before the
+ * output buffer is allocated, so a corrupt or forged length cannot make a read allocate up to 2 GB.
+ * Values larger than {@code maxSize} are stored uncompressed.
+ */
+public class CompressingRedisSerializer implements RedisSerializer<Object> {
+
+    /** Differs from the first byte of every {@link SmileCacheSerializer} value and of JSON text. */
+    static final byte LZ4_MARKER = (byte) 0x4C;
+
+    private static final int HEADER_LENGTH = 1 + Integer.BYTES;
+
+    private static final Logger logger = LoggerFactory.getLogger(CompressingRedisSerializer.class);
+
+    private final RedisSerializer<Object> delegate;
+    private final int threshold;
+    private final int maxSize;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+    private final Timer compressTimer;
+    private final Timer decompressTimer;
+    private final Counter uncompressedBytes;
+    private final Counter compressedBytes;
+    private final DistributionSummary ratio;
+
+    public CompressingRedisSerializer(RedisSerializer<Object> delegate, int threshold, int maxSize,
+                                      MeterRegistry meterRegistry) {
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.delegate = delegate;
+        this.threshold = threshold;
+        this.maxSize = maxSize;
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+        this.compressTimer = Timer.builder("cache.compression.time")
+                .tag("operation", "compress")
+                .description("Wall-clock time spent compressing cache values")
+                .register(meterRegistry);
+        this.decompressTimer = Timer.builder("cache.compression.time")
+                .tag("operation", "decompress")
+                .description("Wall-clock time spent decompressing cache values")
+                .register(meterRegistry);
+        this.uncompressedBytes = Counter.builder("cache.compression.bytes")
+                .tag("state", "uncompressed")
+                .baseUnit("bytes")
+                .description("Size of compressed cache values before and after compression")
+                .register(meterRegistry);
+        this.compressedBytes = Counter.builder("cache.compression.bytes")
+                .tag("state", "compressed")
+                .baseUnit("bytes")
+                .description("Size of compressed cache values before and after compression")
+                .register(meterRegistry);
+        this.ratio = DistributionSummary.builder("cache.compression.ratio")
+                .description("Uncompressed size divided by compressed size of each compressed cache value")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (threshold <= 0 || bytes == null || bytes.length < threshold || bytes.length > maxSize) {
+            return bytes;
+        }
+
+        long start = System.nanoTime();
+        byte[] compressed = new byte[HEADER_LENGTH + compressor.maxCompressedLength(bytes.length)];
+        int length = compressor.compress(bytes, 0, bytes.length, compressed, HEADER_LENGTH);
+        compressTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (HEADER_LENGTH + length >= bytes.length) {
+            return bytes;
+        }
+
+        ByteBuffer.wrap(compressed).put(LZ4_MARKER).putInt(bytes.length);
+        uncompressedBytes.increment(bytes.length);
+        compressedBytes.increment(HEADER_LENGTH + length);
+        ratio.record((double) bytes.length / (HEADER_LENGTH + length));
+        return Arrays.copyOf(compressed, HEADER_LENGTH + length);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < HEADER_LENGTH || bytes[0] != LZ4_MARKER) {
+            return delegate.deserialize(bytes);
+        }
+
+        int length = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+        if (length <= 0 || length > maxSize) {
+            logger.warn("Ignoring compressed cache value of {} bytes with uncompressed length {}", bytes.length, length);
+            return null;
+        }
+
+        long start = System.nanoTime();
+        byte[] decompressed;
+        try {
+            decompressed = decompressor.decompress(bytes, HEADER_LENGTH, length);
+        } catch (LZ4Exception e) {
+            logger.warn("Ignoring corrupt compressed cache value of {} bytes", bytes.length, e);
+            return null;
+        } finally {
+            decompressTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return delegate.deserialize(decompressed);
+    }
+}
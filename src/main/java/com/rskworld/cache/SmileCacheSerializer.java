@@ -0,0 +1,220 @@
+package com.rskworld.cache;
+
+/**
+ * Smile Cache Serializer
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes cache values as Smile (binary JSON) behind a four-byte header: a magic byte, the format
+ * version, the shape of the value (single value, list or page) and the id of the value's (element)
+ * type. Types are identified by small ids registered up front instead of by class name in every
+ * entry, so only registered types can be cached; an id must never be given to another type once
+ * entries may exist under it.
+ *
+ * <p>Values in any other format (including entries written by the previous JSON serializer), with an
+ * unknown id or that no longer parse are read as {@code null}, which caches treat as a miss, and
+ * counted in {@code cache.serialization.rejected}.
+ */
+public class SmileCacheSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xCA;
+    static final byte VERSION = 1;
+
+    private static final int HEADER_LENGTH = 4;
+    private static final byte SHAPE_VALUE = 0;
+    private static final byte SHAPE_LIST = 1;
+    private static final byte SHAPE_PAGE = 2;
+    private static final byte NO_TYPE = 0;
+
+    private static final Logger logger = LoggerFactory.getLogger(SmileCacheSerializer.class);
+
+    private final ObjectMapper mapper;
+    private final Map<Byte, Class<?>> typesById = new HashMap<>();
+    private final Map<Class<?>, Byte> idsByType = new HashMap<>();
+    private final Counter rejected;
+
+    public SmileCacheSerializer(MeterRegistry meterRegistry) {
+        SmileFactory factory = SmileFactory.builder()
+                .disable(SmileGenerator.Feature.WRITE_HEADER)
+                .disable(SmileParser.Feature.REQUIRE_HEADER)
+                .build();
+        this.mapper = new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.rejected = Counter.builder("cache.serialization.rejected")
+                .description("Cached values ignored because their format or type is unknown")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers {@code type} under {@code id} (1-127). Must be called before the serializer is used.
+     */
+    public SmileCacheSerializer register(int id, Class<?> type) {
+        if (id <= NO_TYPE || id > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Type id must be between 1 and 127: " + id);
+        }
+        if (typesById.containsKey((byte) id) || idsByType.containsKey(type)) {
+            throw new IllegalArgumentException("Type id " + id + " or " + type.getName() + " is already registered");
+        }
+        typesById.put((byte) id, type);
+        idsByType.put(type, (byte) id);
+        return this;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            if (value instanceof Page<?> page) {
+                return write(SHAPE_PAGE, elementTypeId(page.getContent()), PageData.of(page));
+            }
+            if (value instanceof List<?> list) {
+                return write(SHAPE_LIST, elementTypeId(list), list);
+            }
+            return write(SHAPE_VALUE, typeId(value.getClass()), value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value of type " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC || bytes[1] != VERSION) {
+            return reject("unknown format");
+        }
+        byte shape = bytes[2];
+        Class<?> type = bytes[3] == NO_TYPE ? Object.class : typesById.get(bytes[3]);
+        if (type == null || shape > SHAPE_PAGE || (shape == SHAPE_VALUE && bytes[3] == NO_TYPE)) {
+            return reject("unknown shape " + shape + " or type id " + bytes[3]);
+        }
+
+        try {
+            if (shape == SHAPE_VALUE) {
+                return mapper.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, type);
+            }
+            JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class, type);
+            if (shape == SHAPE_LIST) {
+                return mapper.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, listType);
+            }
+            JavaType pageType = mapper.getTypeFactory().constructParametricType(PageData.class, type);
+            PageData<?> page = mapper.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, pageType);
+            return page.toPage();
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable cache value of type {}", type.getName(), e);
+            rejected.increment();
+            return null;
+        }
+    }
+
+    private byte[] write(byte shape, byte typeId, Object payload) throws IOException {
+        byte[] body = mapper.writeValueAsBytes(payload);
+        byte[] bytes = new byte[HEADER_LENGTH + body.length];
+        bytes[0] = MAGIC;
+        bytes[1] = VERSION;
+        bytes[2] = shape;
+        bytes[3] = typeId;
+        System.arraycopy(body, 0, bytes, HEADER_LENGTH, body.length);
+        return bytes;
+    }
+
+    private byte elementTypeId(List<?> elements) {
+        if (elements.isEmpty()) {
+            return NO_TYPE;
+        }
+        byte typeId = typeId(elements.get(0).getClass());
+        for (Object element : elements) {
+            if (element.getClass() != elements.get(0).getClass()) {
+                throw new SerializationException("Cached lists must hold a single type, found "
+                        + elements.get(0).getClass().getName() + " and " + element.getClass().getName());
+            }
+        }
+        return typeId;
+    }
+
+    private byte typeId(Class<?> type) {
+        Byte id = idsByType.get(type);
+        if (id == null) {
+            throw new SerializationException("No cache type id registered for " + type.getName());
+        }
+        return id;
+    }
+
+    private Object reject(String reason) {
+        logger.debug("Ignoring cached value: {}", reason);
+        rejected.increment();
+        return null;
+    }
+
+    /**
+     * The parts of a {@link Page} needed to rebuild it; {@code size} is 0 for an unpaged page.
+     */
+    record PageData<T>(List<T> content, int number, int size, long total, List<String> sort) {
+
+        static <T> PageData<T> of(Page<T> page) {
+            Pageable pageable = page.getPageable();
+            if (pageable.isUnpaged()) {
+                return new PageData<>(page.getContent(), 0, 0, page.getTotalElements(), List.of());
+            }
+            List<String> sort = pageable.getSort().stream()
+                    .map(order -> order.getDirection() + ":" + order.getProperty())
+                    .toList();
+            return new PageData<>(page.getContent(), pageable.getPageNumber(), pageable.getPageSize(),
+                    page.getTotalElements(), sort);
+        }
+
+        Page<T> toPage() {
+            if (size == 0) {
+                return new PageImpl<>(content, Pageable.unpaged(), total);
+            }
+            List<Sort.Order> orders = sort.stream()
+                    .map(order -> order.split(":", 2))
+                    .map(parts -> new Sort.Order(Sort.Direction.fromString(parts[0]), parts[1]))
+                    .toList();
+            return new PageImpl<>(content, PageRequest.of(number, size, Sort.by(orders)), total);
+        }
+    }
+}
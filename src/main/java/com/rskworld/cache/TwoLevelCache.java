@@ -0,0 +1,317 @@
+package com.rskworld.cache;
+
+/**
+ * Two-Level Cache
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A per-node in-heap cache in front of a shared Redis cache. Reads try the local tier first and fill
+ * it from Redis; every write goes to Redis, is applied locally and is announced so that other nodes
+ * drop their local copy of the key. Local keys are the string form of the cache key, which is also
+ * what the Redis tier uses, so entries written under a {@code Long} id and its string agree.
+ *
+ * <p>Without a local tier ({@code local} is {@code null}) reads and writes go straight to Redis, and
+ * only the tags of stored entries are recorded.
+ *
+ * <p>{@link #get(Object, Callable)} (used by {@code @Cacheable(sync = true)}) runs at most one loader
+ * per key on this node; concurrent callers for the key wait for its result. With a load lock timeout
+ * on the manager, a node that misses while another node holds the key's Redis lock waits for that
+ * node to fill Redis instead of loading as well. A {@code null} result is not cached; the loading node
+ * leaves a short-lived marker under the lock instead, so waiting nodes return {@code null} without
+ * loading. Waiters stop as soon as the lock is gone rather than polling until the timeout.
+ */
+public class TwoLevelCache implements Cache {
+
+    private static final long LOAD_POLL_INTERVAL_MILLIS = 20;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final TwoLevelCacheManager manager;
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+
+    TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local, Cache remote,
+                  TwoLevelCacheManager manager) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = getLocal(localKey);
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null) {
+            putLocal(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object value = getLocal(localKey);
+        if (value != null) {
+            return (T) value;
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loads.putIfAbsent(localKey, load);
+        if (inFlight != null) {
+            manager.recordCoalescedLoad(name, "node");
+            try {
+                return (T) inFlight.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+
+        try {
+            Object loaded = load(key, localKey, valueLoader);
+            load.complete(loaded);
+            return (T) loaded;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(localKey, load);
+        }
+    }
+
+    private Object load(Object key, String localKey, Callable<?> valueLoader) {
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null) {
+            putLocal(localKey, wrapper.get());
+            return wrapper.get();
+        }
+        if (!manager.isLoadLockEnabled()) {
+            return loadAndPut(key, valueLoader);
+        }
+
+        String lockToken = manager.tryLockLoad(name, localKey);
+        if (lockToken == null) {
+            wrapper = awaitRemote(key, localKey);
+            if (wrapper != null) {
+                manager.recordCoalescedLoad(name, "cluster");
+                putLocal(localKey, wrapper.get());
+                return wrapper.get();
+            }
+            return loadAndPut(key, valueLoader);
+        }
+
+        Object value;
+        try {
+            value = loadAndPut(key, valueLoader);
+        } catch (RuntimeException e) {
+            manager.unlockLoad(name, localKey, lockToken);
+            throw e;
+        }
+        if (value == null) {
+            manager.unlockEmptyLoad(name, localKey, lockToken);
+        } else {
+            manager.unlockLoad(name, localKey, lockToken);
+        }
+        return value;
+    }
+
+    /**
+     * Polls Redis while another node loads {@code key}. Returns the stored value, a wrapper of
+     * {@code null} when that node found no value, or {@code null} when the lock was released without
+     * a value or the lock timeout passed, in which case the caller loads the key itself.
+     */
+    private ValueWrapper awaitRemote(Object key, String localKey) {
+        long deadline = System.nanoTime() + manager.getLoadLockTimeout().toNanos();
+        while (true) {
+            switch (manager.getLoadLockState(name, localKey)) {
+                case EMPTY:
+                    return new SimpleValueWrapper(null);
+                case RELEASED:
+                    // The value may have been stored just before the lock was released
+                    return remote.get(key);
+                default:
+                    break;
+            }
+            if (System.nanoTime() >= deadline) {
+                return null;
+            }
+            try {
+                Thread.sleep(LOAD_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper != null) {
+                return wrapper;
+            }
+        }
+    }
+
+    private Object loadAndPut(Object key, Callable<?> valueLoader) {
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Tags are recorded before the value is written, so a stored entry is always reachable by tag
+     * eviction; a write that fails after the tags are recorded only leaves a tag member for a missing key.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        manager.recordTags(name, localKey);
+        remote.put(key, value);
+        if (value != null) {
+            putLocal(localKey, value);
+        } else {
+            invalidateLocal(List.of(localKey));
+        }
+        manager.publishInvalidation(name, List.of(localKey));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        String localKey = localKey(key);
+        manager.recordTags(name, localKey);
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        invalidateLocal(List.of(localKey));
+        manager.publishInvalidation(name, List.of(localKey));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = localKey(key);
+        invalidateLocal(List.of(localKey));
+        manager.publishInvalidation(name, List.of(localKey));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        String localKey = localKey(key);
+        invalidateLocal(List.of(localKey));
+        manager.publishInvalidation(name, List.of(localKey));
+        return evicted;
+    }
+
+    /**
+     * Evicts several keys with one announcement to the other nodes.
+     */
+    void evictAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        keys.forEach(remote::evict);
+        invalidateLocal(keys);
+        manager.publishInvalidation(name, keys);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        invalidateLocal(null);
+        manager.publishInvalidation(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        invalidateLocal(null);
+        manager.publishInvalidation(name, null);
+        return invalidated;
+    }
+
+    Object getLocal(Object key) {
+        return local == null ? null : local.getIfPresent(localKey(key));
+    }
+
+    void putLocal(Object key, Object value) {
+        if (local != null && value != null) {
+            local.put(localKey(key), value);
+        }
+    }
+
+    /**
+     * Drops local copies of {@code keys}, or of every entry when {@code keys} is {@code null}.
+     */
+    void invalidateLocal(Collection<String> keys) {
+        if (local == null) {
+            return;
+        }
+        if (keys == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidateAll(keys);
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,357 @@
+package com.rskworld.cache;
+
+/**
+ * Two-Level Cache Manager
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves every cache of the {@link RedisCacheManager} as a {@link TwoLevelCache} with a bounded
+ * Caffeine tier per node. Writes are announced on a Redis pub/sub channel as newline-separated
+ * {@code node}, {@code cache} and keys (no keys clears the cache) and every other node drops its local
+ * copies. Local entries also expire after a short TTL, so a lost message leaves a node stale for at
+ * most that long. A {@code maxSize} of 0 turns the local tier off.
+ *
+ * <p>Entries of caches with a {@link CacheTagger} are added to one Redis set per tag when stored, and
+ * {@link #evict} removes the given keys plus every member of the given tags' sets.
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache_invalidations";
+
+    private static final String TAG_KEY_PREFIX = "cache_tags:";
+    private static final String LOAD_LOCK_KEY_PREFIX = "cache_load_lock:";
+
+    private static final String EMPTY_LOAD_MARKER = "-";
+    private static final Duration EMPTY_LOAD_MARKER_TTL = Duration.ofSeconds(1);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+                    + "return 0",
+            Long.class);
+
+    private static final RedisScript<Long> MARK_EMPTY_LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+                    + "  redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+                    + "  return 1 "
+                    + "end "
+                    + "return 0",
+            Long.class);
+
+    private static final RedisScript<Long> ADD_TAGS_SCRIPT = new DefaultRedisScript<>(
+            "for _, key in ipairs(KEYS) do "
+                    + "  redis.call('SADD', key, ARGV[1]) "
+                    + "  redis.call('PEXPIRE', key, ARGV[2]) "
+                    + "end "
+                    + "return #KEYS",
+            Long.class);
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final RedisScript<List<String>> POP_TAGS_SCRIPT = (RedisScript) new DefaultRedisScript<>(
+            "local members = {} "
+                    + "for _, key in ipairs(KEYS) do "
+                    + "  for _, member in ipairs(redis.call('SMEMBERS', key)) do table.insert(members, member) end "
+                    + "  redis.call('DEL', key) "
+                    + "end "
+                    + "return members",
+            List.class);
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+
+    private final RedisCacheManager remote;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long maxSize;
+    private final Duration ttl;
+    private final Duration tagTtl;
+    private final Map<String, CacheTagger> taggers;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+    private Duration loadLockTimeout = Duration.ZERO;
+
+    /**
+     * @param tagTtl how long tag sets outlive their most recently added entry; at least the Redis
+     *               entry TTL
+     */
+    public TwoLevelCacheManager(RedisCacheManager remote, StringRedisTemplate stringRedisTemplate,
+                                MeterRegistry meterRegistry, long maxSize, Duration ttl, Duration tagTtl,
+                                Collection<CacheTagger> taggers) {
+        this.remote = remote;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.tagTtl = tagTtl;
+        this.taggers = taggers.stream().collect(Collectors.toMap(CacheTagger::getCacheName, Function.identity()));
+    }
+
+    /**
+     * How long a node that misses waits for another node already loading the same key. Zero (the
+     * default) only coalesces loads within a node.
+     */
+    public void setLoadLockTimeout(Duration loadLockTimeout) {
+        this.loadLockTimeout = loadLockTimeout;
+    }
+
+    public Duration getLoadLockTimeout() {
+        return loadLockTimeout;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = null;
+        if (maxSize > 0) {
+            local = Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(ttl)
+                    .recordStats()
+                    .build();
+            registerMetrics(name, local);
+        }
+
+        TwoLevelCache cache = new TwoLevelCache(name, local, remoteCache, this);
+        twoLevelCaches.put(name, cache);
+        return cache;
+    }
+
+    /**
+     * Evicts {@code keys} and every entry tagged with one of {@code tags} from {@code cacheName}, on
+     * all nodes. Inside a transaction this happens after commit, like {@code @CacheEvict}.
+     */
+    public void evict(String cacheName, Collection<?> keys, Collection<String> tags) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(cacheName, keys, tags);
+                }
+            });
+        } else {
+            doEvict(cacheName, keys, tags);
+        }
+    }
+
+    private void doEvict(String cacheName, Collection<?> keys, Collection<String> tags) {
+        getCache(cacheName);
+        TwoLevelCache cache = twoLevelCaches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        Set<String> evicted = new LinkedHashSet<>();
+        keys.forEach(key -> evicted.add(String.valueOf(key)));
+        if (!tags.isEmpty()) {
+            List<String> tagKeys = tags.stream().map(tag -> tagKey(cacheName, tag)).toList();
+            List<String> tagged = stringRedisTemplate.execute(POP_TAGS_SCRIPT, tagKeys);
+            if (tagged != null) {
+                evicted.addAll(tagged);
+            }
+        }
+        cache.evictAll(evicted);
+    }
+
+    /**
+     * Returns the value held for {@code key} in this node's tier of {@code cacheName} without going
+     * to Redis, for callers that fetch the misses from Redis in bulk themselves.
+     */
+    public Object getLocal(String cacheName, Object key) {
+        TwoLevelCache cache = twoLevelCaches.get(cacheName);
+        return cache == null ? null : cache.getLocal(key);
+    }
+
+    public void putLocal(String cacheName, Object key, Object value) {
+        TwoLevelCache cache = twoLevelCaches.get(cacheName);
+        if (cache != null) {
+            cache.putLocal(key, value);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] lines = new String(message.getBody(), StandardCharsets.UTF_8).split("\n");
+        if (lines.length < 2 || nodeId.equals(lines[0])) {
+            return;
+        }
+        TwoLevelCache cache = twoLevelCaches.get(lines[1]);
+        if (cache != null) {
+            cache.invalidateLocal(lines.length == 2 ? null : Arrays.asList(lines).subList(2, lines.length));
+            meterRegistry.counter("cache.l1.invalidations", "cache", lines[1]).increment();
+        }
+    }
+
+    /**
+     * Tells the other nodes to drop {@code keys}, or the whole cache when {@code keys} is {@code null}.
+     */
+    void publishInvalidation(String cacheName, Collection<String> keys) {
+        if (maxSize <= 0) {
+            return;
+        }
+        StringBuilder message = new StringBuilder(nodeId).append('\n').append(cacheName);
+        if (keys != null) {
+            keys.forEach(key -> message.append('\n').append(key));
+        }
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message.toString());
+        } catch (RuntimeException e) {
+            logger.warn("Unable to announce invalidation of cache {}, other nodes expire it after {}", cacheName, ttl, e);
+        }
+    }
+
+    /**
+     * Adds {@code key} to the sets of all its tags with one script call.
+     */
+    void recordTags(String cacheName, String key) {
+        CacheTagger tagger = taggers.get(cacheName);
+        if (tagger == null) {
+            return;
+        }
+        List<String> tagKeys = tagger.tagsFor(key).stream().map(tag -> tagKey(cacheName, tag)).toList();
+        if (!tagKeys.isEmpty()) {
+            stringRedisTemplate.execute(ADD_TAGS_SCRIPT, tagKeys, key, String.valueOf(tagTtl.toMillis()));
+        }
+    }
+
+    boolean isLoadLockEnabled() {
+        return !loadLockTimeout.isZero() && !loadLockTimeout.isNegative();
+    }
+
+    /**
+     * @return the token to release the lock with, or {@code null} if another node is loading the key
+     */
+    String tryLockLoad(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue()
+                .setIfAbsent(loadLockKey(cacheName, key), token, loadLockTimeout);
+        return Boolean.TRUE.equals(locked) ? token : null;
+    }
+
+    void unlockLoad(String cacheName, String key, String token) {
+        try {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(loadLockKey(cacheName, key)), token);
+        } catch (RuntimeException e) {
+            logger.warn("Unable to release load lock of {} in cache {}, it expires after {}", key, cacheName,
+                    loadLockTimeout, e);
+        }
+    }
+
+    /**
+     * Releases the load lock after the loader found no value by replacing it with a marker that lives
+     * for {@link #EMPTY_LOAD_MARKER_TTL}, so nodes waiting on the key return {@code null} at once and
+     * nodes missing shortly after do not run the loader again.
+     */
+    void unlockEmptyLoad(String cacheName, String key, String token) {
+        try {
+            stringRedisTemplate.execute(MARK_EMPTY_LOAD_SCRIPT, List.of(loadLockKey(cacheName, key)), token,
+                    EMPTY_LOAD_MARKER, String.valueOf(EMPTY_LOAD_MARKER_TTL.toMillis()));
+        } catch (RuntimeException e) {
+            logger.warn("Unable to release load lock of {} in cache {}, it expires after {}", key, cacheName,
+                    loadLockTimeout, e);
+        }
+    }
+
+    LoadLockState getLoadLockState(String cacheName, String key) {
+        String value = stringRedisTemplate.opsForValue().get(loadLockKey(cacheName, key));
+        if (value == null) {
+            return LoadLockState.RELEASED;
+        }
+        return EMPTY_LOAD_MARKER.equals(value) ? LoadLockState.EMPTY : LoadLockState.HELD;
+    }
+
+    void recordCoalescedLoad(String cacheName, String scope) {
+        meterRegistry.counter("cache.loads.coalesced", "cache", cacheName, "scope", scope).increment();
+    }
+
+    private static String loadLockKey(String cacheName, String key) {
+        return LOAD_LOCK_KEY_PREFIX + cacheName + ":" + key;
+    }
+
+    private static String tagKey(String cacheName, String tag) {
+        return TAG_KEY_PREFIX + cacheName + ":" + tag;
+    }
+
+    private void registerMetrics(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local) {
+        FunctionCounter.builder("cache.l1.requests", local, cache -> cache.stats().hitCount())
+                .tag("cache", name)
+                .tag("result", "hit")
+                .description("In-heap cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.l1.requests", local, cache -> cache.stats().missCount())
+                .tag("cache", name)
+                .tag("result", "miss")
+                .description("In-heap cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.l1.evictions", local, cache -> cache.stats().evictionCount())
+                .tag("cache", name)
+                .description("In-heap cache entries evicted for size or age")
+                .register(meterRegistry);
+        Gauge.builder("cache.l1.size", local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .tag("cache", name)
+                .description("In-heap cache entries")
+                .register(meterRegistry);
+    }
+
+    /**
+     * What a node waiting for another node's load finds under the key's load lock.
+     */
+    enum LoadLockState {
+        /** Another node is still loading. */
+        HELD,
+        /** The load finished without a value. */
+        EMPTY,
+        /** The lock was released or expired. */
+        RELEASED
+    }
+}
@@ -19,16 +19,29 @@ package com.rskworld.config;
  * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
  */
 
+import com.rskworld.cache.CacheTagger;
+import com.rskworld.cache.CompressingRedisSerializer;
+import com.rskworld.cache.SmileCacheSerializer;
+import com.rskworld.cache.TwoLevelCacheManager;
+import com.rskworld.dto.ProductSummary;
+import com.rskworld.entity.Product;
+import com.rskworld.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -37,6 +50,8 @@ import java.time.Duration;
 @EnableCaching
 public class RedisConfig {
 
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
     @Value("${spring.redis.host}")
     private String redisHost;
 
@@ -46,6 +61,21 @@ public class RedisConfig {
     @Value("${spring.redis.password:}")
     private String redisPassword;
 
+    @Value("${cache.l1.max-size:10000}")
+    private long l1MaxSize;
+
+    @Value("${cache.l1.ttl:60000}")
+    private long l1Ttl;
+
+    @Value("${cache.load-lock.timeout:0}")
+    private long loadLockTimeout;
+
+    @Value("${cache.compression.threshold:16384}")
+    private int compressionThreshold;
+
+    @Value("${cache.compression.max-size:67108864}")
+    private int compressionMaxSize;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         LettuceConnectionFactory factory = new LettuceConnectionFactory(redisHost, redisPort);
@@ -55,34 +85,75 @@ public class RedisConfig {
         return factory;
     }
 
+    /**
+     * Shared by the cache manager and {@link #redisTemplate} so that values cached through
+     * {@code @Cacheable} can also be read in bulk with a multi-get. Type ids are stored in every
+     * entry: never reuse or renumber one, only add new ones.
+     */
+    @Bean
+    public RedisSerializer<Object> cacheValueSerializer(MeterRegistry meterRegistry) {
+        SmileCacheSerializer serializer = new SmileCacheSerializer(meterRegistry)
+                .register(1, Product.class)
+                .register(2, ProductSummary.class)
+                .register(3, User.class)
+                .register(4, Integer.class);
+        return new CompressingRedisSerializer(serializer, compressionThreshold, compressionMaxSize, meterRegistry);
+    }
+
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       RedisSerializer<Object> cacheValueSerializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
         
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(cacheValueSerializer);
+        template.setHashValueSerializer(cacheValueSerializer);
         
         template.afterPropertiesSet();
         return template;
     }
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    public RedisCacheConfiguration cacheConfiguration(RedisSerializer<Object> cacheValueSerializer) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(CACHE_TTL)
                 .disableCachingNullValues()
                 .serializeKeysWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
-                        .fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                        .fromSerializer(cacheValueSerializer));
+    }
 
+    @Bean
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory, RedisCacheConfiguration config) {
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
-                .transactionAware()
                 .build();
     }
+
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             RedisMessageListenerContainer redisMessageListenerContainer,
+                                             MeterRegistry meterRegistry,
+                                             ObjectProvider<CacheTagger> cacheTaggers) {
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate,
+                meterRegistry, l1MaxSize, Duration.ofMillis(l1Ttl), CACHE_TTL, cacheTaggers.orderedStream().toList());
+        cacheManager.setTransactionAware(true);
+        cacheManager.setLoadLockTimeout(Duration.ofMillis(loadLockTimeout));
+        redisMessageListenerContainer.addMessageListener(cacheManager,
+                new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return cacheManager;
+    }
 }
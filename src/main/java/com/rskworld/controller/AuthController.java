@@ -22,30 +22,38 @@ package com.rskworld.controller;
 import com.rskworld.dto.JwtResponse;
 import com.rskworld.dto.LoginRequest;
 import com.rskworld.dto.RefreshTokenRequest;
+import com.rskworld.dto.RevokeTokenRequest;
 import com.rskworld.dto.SignUpRequest;
 import com.rskworld.entity.User;
 import com.rskworld.security.JwtTokenUtil;
+import com.rskworld.security.LoginRateLimiter;
+import com.rskworld.security.ParsedToken;
+import com.rskworld.security.RefreshTokenService;
+import com.rskworld.security.TokenRevocationService;
+import com.rskworld.service.PasswordHashingService;
 import com.rskworld.service.UserService;
+import io.jsonwebtoken.JwtException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/auth")
 @Tag(name = "Authentication", description = "Authentication management APIs")
 public class AuthController {
 
     @Autowired
-    private AuthenticationManager authenticationManager;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     private UserService userService;
@@ -53,48 +61,66 @@ public class AuthController {
     @Autowired
     private JwtTokenUtil jwtTokenUtil;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
     @Operation(summary = "Authenticate user and return JWT token")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully authenticated"),
-        @ApiResponse(responseCode = "401", description = "Invalid credentials")
+        @ApiResponse(responseCode = "401", description = "Invalid credentials"),
+        @ApiResponse(responseCode = "429", description = "Too many login attempts, retry later"),
+        @ApiResponse(responseCode = "503", description = "Too many concurrent logins, retry later")
     })
     @PostMapping("/login")
-    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+    public CompletableFuture<ResponseEntity<?>> authenticateUser(@Valid @RequestBody LoginRequest loginRequest,
+                                                                 HttpServletRequest request) {
         
-        Authentication authentication = authenticationManager.authenticate(
+        // The client address as resolved from X-Forwarded-For by server.forward-headers-strategy
+        loginRateLimiter.checkLoginAttempt(loginRequest.getUsernameOrEmail(), request.getRemoteAddr());
+
+        return passwordHashingService.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         loginRequest.getUsernameOrEmail(),
                         loginRequest.getPassword()
                 )
-        );
+        ).thenApply(authentication -> {
+            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
 
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        
-        String jwt = jwtTokenUtil.generateToken(userDetails);
-        String refreshToken = jwtTokenUtil.generateRefreshToken(userDetails);
+            String jwt = jwtTokenUtil.generateToken(userDetails);
+            String refreshToken = refreshTokenService.issue(userDetails);
 
-        return ResponseEntity.ok(new JwtResponse(
-                jwt,
-                refreshToken,
-                userDetails.getUsername(),
-                userDetails.getAuthorities()
-        ));
+            return ResponseEntity.ok(new JwtResponse(
+                    jwt,
+                    refreshToken,
+                    userDetails.getUsername(),
+                    userDetails.getAuthorities()
+            ));
+        });
     }
 
     @Operation(summary = "Register a new user")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "User registered successfully"),
-        @ApiResponse(responseCode = "400", description = "Username or email already exists")
+        @ApiResponse(responseCode = "400", description = "Username or email already exists"),
+        @ApiResponse(responseCode = "503", description = "Too many concurrent registrations, retry later")
     })
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(@Valid @RequestBody SignUpRequest signUpRequest) {
+    public CompletableFuture<ResponseEntity<?>> registerUser(@Valid @RequestBody SignUpRequest signUpRequest) {
         
         if (userService.existsByUsername(signUpRequest.getUsername())) {
-            return ResponseEntity.badRequest().body("Error: Username is already taken!");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body("Error: Username is already taken!"));
         }
 
         if (userService.existsByEmail(signUpRequest.getEmail())) {
-            return ResponseEntity.badRequest().body("Error: Email is already in use!");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body("Error: Email is already in use!"));
         }
 
         User user = new User(
@@ -107,9 +133,8 @@ public class AuthController {
         user.setLastName(signUpRequest.getLastName());
         user.setPhone(signUpRequest.getPhone());
 
-        userService.createUser(user);
-
-        return ResponseEntity.ok("User registered successfully!");
+        return userService.registerUser(user)
+                .thenApply(registered -> ResponseEntity.ok("User registered successfully!"));
     }
 
     @Operation(summary = "Refresh JWT token")
@@ -120,22 +145,77 @@ public class AuthController {
     @PostMapping("/refresh")
     public ResponseEntity<?> refreshToken(@Valid @RequestBody RefreshTokenRequest refreshTokenRequest) {
         
-        String username = jwtTokenUtil.extractUsername(refreshTokenRequest.getRefreshToken());
+        ParsedToken presentedToken;
+        try {
+            presentedToken = jwtTokenUtil.verify(refreshTokenRequest.getRefreshToken());
+        } catch (JwtException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid refresh token!");
+        }
+
+        if (tokenRevocationService.isRevoked(presentedToken.getId())) {
+            return ResponseEntity.badRequest().body("Invalid refresh token!");
+        }
         
-        UserDetails userDetails = userService.loadUserByUsername(username);
+        UserDetails userDetails = userService.loadUserByUsername(presentedToken.getSubject());
         
-        if (jwtTokenUtil.validateToken(refreshTokenRequest.getRefreshToken(), userDetails)) {
-            String newToken = jwtTokenUtil.generateToken(userDetails);
-            String newRefreshToken = jwtTokenUtil.generateRefreshToken(userDetails);
-            
-            return ResponseEntity.ok(new JwtResponse(
-                    newToken,
-                    newRefreshToken,
-                    userDetails.getUsername(),
-                    userDetails.getAuthorities()
-            ));
+        String newRefreshToken = refreshTokenService.rotate(presentedToken, userDetails);
+        if (newRefreshToken == null) {
+            return ResponseEntity.badRequest().body("Invalid refresh token!");
         }
+
+        String newToken = jwtTokenUtil.generateToken(userDetails);
         
-        return ResponseEntity.badRequest().body("Invalid refresh token!");
+        return ResponseEntity.ok(new JwtResponse(
+                newToken,
+                newRefreshToken,
+                userDetails.getUsername(),
+                userDetails.getAuthorities()
+        ));
+    }
+
+    @Operation(summary = "Log out by revoking the current access token and, optionally, the refresh token")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tokens revoked")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenRequest refreshTokenRequest) {
+
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            revokeQuietly(authorization.substring(7));
+        }
+        if (refreshTokenRequest != null && refreshTokenRequest.getRefreshToken() != null) {
+            try {
+                refreshTokenService.revoke(refreshTokenRequest.getRefreshToken());
+            } catch (JwtException | IllegalArgumentException e) {
+                // An expired or invalid refresh token cannot be exchanged anymore
+            }
+        }
+
+        return ResponseEntity.ok("Logged out successfully!");
+    }
+
+    @Operation(summary = "Revoke an access or refresh token")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Token revoked"),
+        @ApiResponse(responseCode = "400", description = "Invalid token")
+    })
+    @PostMapping("/revoke")
+    public ResponseEntity<?> revokeToken(@Valid @RequestBody RevokeTokenRequest revokeTokenRequest) {
+        try {
+            tokenRevocationService.revoke(revokeTokenRequest.getToken());
+        } catch (JwtException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid token!");
+        }
+        return ResponseEntity.ok("Token revoked successfully!");
+    }
+
+    private void revokeQuietly(String token) {
+        try {
+            tokenRevocationService.revoke(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            // Expired or invalid tokens cannot be used anymore, so there is nothing to revoke
+        }
     }
 }
@@ -19,59 +19,137 @@ package com.rskworld.controller;
  * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
  */
 
+import com.rskworld.dto.FacetedSearchResponse;
+import com.rskworld.dto.ProductBatchRequest;
+import com.rskworld.dto.ProductLookupResult;
 import com.rskworld.entity.Product;
+import com.rskworld.search.Suggestion;
+import com.rskworld.search.SuggestionIndex;
+import com.rskworld.service.ProductExportService;
 import com.rskworld.service.ProductService;
+import com.rskworld.service.ProductSort;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/products")
 @Tag(name = "Product Management", description = "Product management APIs")
 public class ProductController {
 
+    private static final String FIELDS_FULL = "full";
+    private static final String FIELDS_SUMMARY = "summary";
+
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @Autowired
+    private ProductExportService productExportService;
+
+    @Value("${products.batch.max-size:100}")
+    private int batchMaxSize;
+
+    @Value("${products.bulk.max-size:1000}")
+    private int bulkMaxSize;
+
     @Operation(summary = "Get all products")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved products")
     })
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
-        return ResponseEntity.ok(productService.getActiveProducts());
+    public ResponseEntity<?> getAllProducts(
+            @Parameter(description = "Fields to return: full or summary (id, name, price, sku, brand, category)") @RequestParam(defaultValue = FIELDS_FULL) String fields) {
+        return withFields(fields, productService::getActiveProducts, productService::getActiveProductSummaries);
     }
 
-    @Operation(summary = "Get products with pagination")
+    @Operation(summary = "Export all active products as newline-delimited JSON",
+            description = "Streams products in id order. Send `Accept-Encoding: gzip` for a compressed stream; "
+                    + "resume an interrupted export with `afterId` set to the last id received.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Successfully retrieved products")
+        @ApiResponse(responseCode = "200", description = "Products streamed")
+    })
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public void exportProducts(
+            @Parameter(description = "Only export products with a greater id") @RequestParam(required = false) Long afterId,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        OutputStream outputStream = gzip
+                ? new GZIPOutputStream(response.getOutputStream(), 8192, true)
+                : response.getOutputStream();
+        productExportService.exportActiveProducts(afterId, outputStream);
+        outputStream.close();
+    }
+
+    @Operation(summary = "Get products with pagination",
+            description = "Pass `cursor` (empty for the first page) to page by keyset: the response then "
+                    + "carries `nextCursor` instead of page numbers and total counts.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved products"),
+        @ApiResponse(responseCode = "400", description = "Unsupported sort field or invalid cursor")
     })
     @GetMapping("/page")
-    public ResponseEntity<Page<Product>> getProductsPage(
+    public ResponseEntity<?> getProductsPage(
             @Parameter(description = "Page number (0-indexed)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sort field") @RequestParam(defaultValue = "id") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "asc") String sortDir) {
+            @Parameter(description = "Sort field (id, name, price or createdAt)") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "asc") String sortDir,
+            @Parameter(description = "Keyset cursor from the previous response") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Fields to return: full or summary (id, name, price, sku, brand, category)") @RequestParam(defaultValue = FIELDS_FULL) String fields) {
         
-        Sort sort = sortDir.equalsIgnoreCase("desc") ? 
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, size, sort);
+        ProductSort productSort = ProductSort.fromProperty(sortBy);
+        if (productSort == null) {
+            return ResponseEntity.badRequest().body("Error: Unsupported sort field " + sortBy);
+        }
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+
+        if (cursor != null) {
+            try {
+                return ResponseEntity.ok(productService.getActiveProductsSlice(productSort, direction, cursor, size));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body("Error: Invalid cursor");
+            }
+        }
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, productSort.getProperty()));
         
-        return ResponseEntity.ok(productService.getActiveProductsPage(pageable));
+        return withFields(fields, () -> productService.getActiveProductsPage(pageable),
+                () -> productService.getActiveProductSummariesPage(pageable));
     }
 
     @Operation(summary = "Get product by ID")
@@ -98,13 +176,35 @@ public class ProductController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Get several products by ID and/or SKU",
+            description = "Returns one result per requested id, then one per requested SKU, in request order")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup results, with found=false for unknown products"),
+        @ApiResponse(responseCode = "400", description = "Too many ids and SKUs requested")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<?> getProductsBatch(@RequestBody ProductBatchRequest request) {
+        int requested = request.getIds().size() + request.getSkus().size();
+        if (requested > batchMaxSize) {
+            return ResponseEntity.badRequest().body("Error: At most " + batchMaxSize + " ids and SKUs may be requested");
+        }
+
+        List<ProductLookupResult> results = new ArrayList<>(requested);
+        results.addAll(productService.getProductsByIds(request.getIds()));
+        results.addAll(productService.getProductsBySkus(request.getSkus()));
+        return ResponseEntity.ok(results);
+    }
+
     @Operation(summary = "Get products by category")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved products")
     })
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<Product>> getProductsByCategory(@PathVariable String category) {
-        return ResponseEntity.ok(productService.getProductsByCategory(category));
+    public ResponseEntity<?> getProductsByCategory(
+            @PathVariable String category,
+            @Parameter(description = "Fields to return: full or summary (id, name, price, sku, brand, category)") @RequestParam(defaultValue = FIELDS_FULL) String fields) {
+        return withFields(fields, () -> productService.getProductsByCategory(category),
+                () -> productService.getProductSummariesByCategory(category));
     }
 
     @Operation(summary = "Get products by brand")
@@ -112,8 +212,11 @@ public class ProductController {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved products")
     })
     @GetMapping("/brand/{brand}")
-    public ResponseEntity<List<Product>> getProductsByBrand(@PathVariable String brand) {
-        return ResponseEntity.ok(productService.getProductsByBrand(brand));
+    public ResponseEntity<?> getProductsByBrand(
+            @PathVariable String brand,
+            @Parameter(description = "Fields to return: full or summary (id, name, price, sku, brand, category)") @RequestParam(defaultValue = FIELDS_FULL) String fields) {
+        return withFields(fields, () -> productService.getProductsByBrand(brand),
+                () -> productService.getProductSummariesByBrand(brand));
     }
 
     @Operation(summary = "Search products by keyword")
@@ -121,9 +224,43 @@ public class ProductController {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved products")
     })
     @GetMapping("/search")
-    public ResponseEntity<List<Product>> searchProducts(
-            @Parameter(description = "Search keyword") @RequestParam String keyword) {
-        return ResponseEntity.ok(productService.searchProducts(keyword));
+    public ResponseEntity<?> searchProducts(
+            @Parameter(description = "Search keyword") @RequestParam String keyword,
+            @Parameter(description = "Page number (0-indexed)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Fields to return: full or summary (id, name, price, sku, brand, category)") @RequestParam(defaultValue = FIELDS_FULL) String fields) {
+        Pageable pageable = PageRequest.of(page, size);
+        return withFields(fields, () -> productService.searchProducts(keyword, pageable),
+                () -> productService.searchProductSummaries(keyword, pageable));
+    }
+
+    @Operation(summary = "Search products with combined filters and facet counts")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved products and facets"),
+        @ApiResponse(responseCode = "503", description = "Search index is still being built")
+    })
+    @GetMapping("/facets")
+    public ResponseEntity<FacetedSearchResponse> facetedSearch(
+            @Parameter(description = "Search keyword") @RequestParam(required = false) String keyword,
+            @Parameter(description = "Category") @RequestParam(required = false) String category,
+            @Parameter(description = "Brand") @RequestParam(required = false) String brand,
+            @Parameter(description = "Minimum price") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price") @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Page number (0-indexed)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(productService.facetedSearch(keyword, category, brand, minPrice, maxPrice,
+                PageRequest.of(page, size)));
+    }
+
+    @Operation(summary = "Suggest product names, brands and categories for a prefix")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved suggestions")
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<Suggestion>> suggest(
+            @Parameter(description = "Typed prefix") @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(suggestionIndex.suggest(prefix, limit));
     }
 
     @Operation(summary = "Get products by price range")
@@ -131,10 +268,15 @@ public class ProductController {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved products")
     })
     @GetMapping("/price-range")
-    public ResponseEntity<List<Product>> getProductsByPriceRange(
+    public ResponseEntity<?> getProductsByPriceRange(
             @Parameter(description = "Minimum price") @RequestParam BigDecimal minPrice,
-            @Parameter(description = "Maximum price") @RequestParam BigDecimal maxPrice) {
-        return ResponseEntity.ok(productService.getProductsByPriceRange(minPrice, maxPrice));
+            @Parameter(description = "Maximum price") @RequestParam BigDecimal maxPrice,
+            @Parameter(description = "Page number (0-indexed)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Fields to return: full or summary (id, name, price, sku, brand, category)") @RequestParam(defaultValue = FIELDS_FULL) String fields) {
+        Pageable pageable = PageRequest.of(page, size);
+        return withFields(fields, () -> productService.getProductsByPriceRange(minPrice, maxPrice, pageable),
+                () -> productService.getProductSummariesByPriceRange(minPrice, maxPrice, pageable));
     }
 
     @Operation(summary = "Get low stock products")
@@ -142,10 +284,12 @@ public class ProductController {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved products")
     })
     @GetMapping("/low-stock")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Product>> getLowStockProducts(
-            @Parameter(description = "Stock threshold") @RequestParam(defaultValue = "10") Integer threshold) {
-        return ResponseEntity.ok(productService.getLowStockProducts(threshold));
+    @PreAuthorize("@roleChecker.hasRole(authentication, 'ADMIN')")
+    public ResponseEntity<?> getLowStockProducts(
+            @Parameter(description = "Stock threshold") @RequestParam(defaultValue = "10") Integer threshold,
+            @Parameter(description = "Fields to return: full or summary (id, name, price, sku, brand, category)") @RequestParam(defaultValue = FIELDS_FULL) String fields) {
+        return withFields(fields, () -> productService.getLowStockProducts(threshold),
+                () -> productService.getLowStockProductSummaries(threshold));
     }
 
     @Operation(summary = "Get latest products")
@@ -153,8 +297,9 @@ public class ProductController {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved products")
     })
     @GetMapping("/latest")
-    public ResponseEntity<List<Product>> getLatestProducts() {
-        return ResponseEntity.ok(productService.getLatestProducts());
+    public ResponseEntity<?> getLatestProducts(
+            @Parameter(description = "Fields to return: full or summary (id, name, price, sku, brand, category)") @RequestParam(defaultValue = FIELDS_FULL) String fields) {
+        return withFields(fields, productService::getLatestProducts, productService::getLatestProductSummaries);
     }
 
     @Operation(summary = "Create a new product")
@@ -163,18 +308,33 @@ public class ProductController {
         @ApiResponse(responseCode = "400", description = "Invalid input or SKU already exists")
     })
     @PostMapping
-    @PreAuthorize("hasRole('ADMIN')")
+    @PreAuthorize("@roleChecker.hasRole(authentication, 'ADMIN')")
     public ResponseEntity<Product> createProduct(@Valid @RequestBody Product product) {
         return ResponseEntity.ok(productService.createProduct(product));
     }
 
+    @Operation(summary = "Create or update products by SKU (Admin only)",
+            description = "Returns one result per row in request order; invalid rows are rejected individually")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Per-row outcomes"),
+        @ApiResponse(responseCode = "400", description = "Too many rows in the batch")
+    })
+    @PostMapping("/bulk")
+    @PreAuthorize("@roleChecker.hasRole(authentication, 'ADMIN')")
+    public ResponseEntity<?> upsertProducts(@RequestBody List<Product> products) {
+        if (products.size() > bulkMaxSize) {
+            return ResponseEntity.badRequest().body("Error: At most " + bulkMaxSize + " products may be sent per batch");
+        }
+        return ResponseEntity.ok(productService.upsertProducts(products));
+    }
+
     @Operation(summary = "Update an existing product")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Product updated successfully"),
         @ApiResponse(responseCode = "404", description = "Product not found")
     })
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @PreAuthorize("@roleChecker.hasRole(authentication, 'ADMIN')")
     public ResponseEntity<Product> updateProduct(@PathVariable Long id, @Valid @RequestBody Product product) {
         return ResponseEntity.ok(productService.updateProduct(id, product));
     }
@@ -185,7 +345,7 @@ public class ProductController {
         @ApiResponse(responseCode = "404", description = "Product not found")
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @PreAuthorize("@roleChecker.hasRole(authentication, 'ADMIN')")
     public ResponseEntity<Void> deleteProduct(@PathVariable Long id) {
         productService.deleteProduct(id);
         return ResponseEntity.ok().build();
@@ -197,9 +357,19 @@ public class ProductController {
         @ApiResponse(responseCode = "404", description = "Product not found")
     })
     @DeleteMapping("/{id}/permanent")
-    @PreAuthorize("hasRole('ADMIN')")
+    @PreAuthorize("@roleChecker.hasRole(authentication, 'ADMIN')")
     public ResponseEntity<Void> permanentlyDeleteProduct(@PathVariable Long id) {
         productService.permanentlyDeleteProduct(id);
         return ResponseEntity.ok().build();
     }
+
+    private static ResponseEntity<?> withFields(String fields, Supplier<?> full, Supplier<?> summary) {
+        if (FIELDS_FULL.equalsIgnoreCase(fields)) {
+            return ResponseEntity.ok(full.get());
+        }
+        if (FIELDS_SUMMARY.equalsIgnoreCase(fields)) {
+            return ResponseEntity.ok(summary.get());
+        }
+        return ResponseEntity.badRequest().body("Error: Unsupported fields value " + fields);
+    }
 }
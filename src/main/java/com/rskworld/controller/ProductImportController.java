@@ -0,0 +1,79 @@
+package com.rskworld.controller;
+
+/**
+ * Product Import Controller
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.rskworld.importer.ImportFormat;
+import com.rskworld.importer.ImportJob;
+import com.rskworld.importer.ProductImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/products/import")
+@Tag(name = "Product Management", description = "Product management APIs")
+@PreAuthorize("@roleChecker.hasRole(authentication, 'ADMIN')")
+public class ProductImportController {
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Operation(summary = "Import a catalog file (Admin only)",
+            description = "Send the file as the request body with `Content-Type: text/csv` (header row of product "
+                    + "property names) or `application/x-ndjson`. Products are matched by SKU and created or updated; "
+                    + "the import runs in the background and its progress is available from the returned location.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Import started"),
+        @ApiResponse(responseCode = "400", description = "Unsupported content type"),
+        @ApiResponse(responseCode = "503", description = "Another import is running")
+    })
+    @PostMapping(consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<?> startImport(HttpServletRequest request) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        if (format == null) {
+            return ResponseEntity.badRequest().body("Error: Unsupported content type " + request.getContentType());
+        }
+        ImportJob job = productImportService.start(request.getInputStream(), format);
+        return ResponseEntity.accepted()
+                .location(URI.create("/products/import/" + job.getId()))
+                .body(job);
+    }
+
+    @Operation(summary = "Get the progress of a catalog import (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import progress, throughput and rejected rows"),
+        @ApiResponse(responseCode = "404", description = "Unknown import")
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJob> getImport(@PathVariable String jobId) {
+        ImportJob job = productImportService.getJob(jobId);
+        return job == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(job);
+    }
+}
@@ -0,0 +1,71 @@
+package com.rskworld.dto;
+
+/**
+ * Faceted Search Response DTO
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.rskworld.entity.Product;
+
+import java.util.List;
+import java.util.Map;
+
+public class FacetedSearchResponse {
+
+    private List<Product> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private Map<String, Long> categories;
+    private Map<String, Long> brands;
+    private Map<String, Long> priceRanges;
+
+    public FacetedSearchResponse(List<Product> content, int page, int size, long totalElements,
+                                 Map<String, Long> categories, Map<String, Long> brands,
+                                 Map<String, Long> priceRanges) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.categories = categories;
+        this.brands = brands;
+        this.priceRanges = priceRanges;
+    }
+
+    // Getters and Setters
+    public List<Product> getContent() { return content; }
+    public void setContent(List<Product> content) { this.content = content; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public long getTotalElements() { return totalElements; }
+    public void setTotalElements(long totalElements) { this.totalElements = totalElements; }
+
+    public Map<String, Long> getCategories() { return categories; }
+    public void setCategories(Map<String, Long> categories) { this.categories = categories; }
+
+    public Map<String, Long> getBrands() { return brands; }
+    public void setBrands(Map<String, Long> brands) { this.brands = brands; }
+
+    public Map<String, Long> getPriceRanges() { return priceRanges; }
+    public void setPriceRanges(Map<String, Long> priceRanges) { this.priceRanges = priceRanges; }
+}
@@ -0,0 +1,40 @@
+package com.rskworld.dto;
+
+/**
+ * Product Batch Request
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProductBatchRequest {
+
+    private List<Long> ids = new ArrayList<>();
+    private List<String> skus = new ArrayList<>();
+
+    // Getters and Setters
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids == null ? new ArrayList<>() : ids; }
+
+    public List<String> getSkus() { return skus; }
+    public void setSkus(List<String> skus) { this.skus = skus == null ? new ArrayList<>() : skus; }
+}
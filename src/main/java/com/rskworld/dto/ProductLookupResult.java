@@ -0,0 +1,63 @@
+package com.rskworld.dto;
+
+/**
+ * Product Lookup Result
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.rskworld.entity.Product;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductLookupResult {
+
+    private Long id;
+    private String sku;
+    private boolean found;
+    private Product product;
+
+    public ProductLookupResult() {}
+
+    public ProductLookupResult(Long id, String sku, Product product) {
+        this.id = id;
+        this.sku = sku;
+        this.found = product != null;
+        this.product = product;
+    }
+
+    public static ProductLookupResult forId(Long id, Product product) {
+        return new ProductLookupResult(id, null, product);
+    }
+
+    public static ProductLookupResult forSku(String sku, Product product) {
+        return new ProductLookupResult(null, sku, product);
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getSku() { return sku; }
+    public void setSku(String sku) { this.sku = sku; }
+
+    public boolean isFound() { return found; }
+    public void setFound(boolean found) { this.found = found; }
+
+    public Product getProduct() { return product; }
+    public void setProduct(Product product) { this.product = product; }
+}
@@ -0,0 +1,66 @@
+package com.rskworld.dto;
+
+/**
+ * Product Summary DTO
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import java.math.BigDecimal;
+
+/**
+ * Listing view of a product, selected column by column instead of loading the entity.
+ */
+public class ProductSummary {
+
+    private Long id;
+    private String name;
+    private BigDecimal price;
+    private String sku;
+    private String brand;
+    private String category;
+
+    public ProductSummary() {}
+
+    public ProductSummary(Long id, String name, BigDecimal price, String sku, String brand, String category) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.sku = sku;
+        this.brand = brand;
+        this.category = category;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public BigDecimal getPrice() { return price; }
+    public void setPrice(BigDecimal price) { this.price = price; }
+
+    public String getSku() { return sku; }
+    public void setSku(String sku) { this.sku = sku; }
+
+    public String getBrand() { return brand; }
+    public void setBrand(String brand) { this.brand = brand; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+}
@@ -0,0 +1,71 @@
+package com.rskworld.dto;
+
+/**
+ * Product Upsert Result
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductUpsertResult {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        REJECTED
+    }
+
+    private int index;
+    private String sku;
+    private Long id;
+    private Status status;
+    private List<String> errors;
+
+    public ProductUpsertResult() {}
+
+    public ProductUpsertResult(int index, String sku, Long id, Status status, List<String> errors) {
+        this.index = index;
+        this.sku = sku;
+        this.id = id;
+        this.status = status;
+        this.errors = errors;
+    }
+
+    public static ProductUpsertResult rejected(int index, String sku, List<String> errors) {
+        return new ProductUpsertResult(index, sku, null, Status.REJECTED, errors);
+    }
+
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public String getSku() { return sku; }
+    public void setSku(String sku) { this.sku = sku; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public List<String> getErrors() { return errors; }
+    public void setErrors(List<String> errors) { this.errors = errors; }
+}
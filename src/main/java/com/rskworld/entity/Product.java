@@ -32,12 +32,19 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+    @Index(name = "idx_products_active_id", columnList = "active, id"),
+    @Index(name = "idx_products_active_name_id", columnList = "active, name, id"),
+    @Index(name = "idx_products_active_price_id", columnList = "active, price, id"),
+    @Index(name = "idx_products_active_created_at_id", columnList = "active, created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Product {
 
+    // Pooled sequence ids let Hibernate batch inserts, which IDENTITY columns prevent
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_id_seq")
+    @SequenceGenerator(name = "products_id_seq", sequenceName = "products_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
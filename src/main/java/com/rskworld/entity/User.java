@@ -19,6 +19,9 @@ package com.rskworld.entity;
  * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
  */
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.rskworld.security.RoleAuthority;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -27,14 +30,14 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "users", uniqueConstraints = {
@@ -42,6 +45,7 @@ import java.util.stream.Collectors;
     @UniqueConstraint(columnNames = "email")
 })
 @EntityListeners(AuditingEntityListener.class)
+@JsonIgnoreProperties(value = "authorities", allowGetters = true)
 public class User implements UserDetails {
 
     @Id
@@ -88,12 +92,21 @@ public class User implements UserDetails {
     @Column(name = "credentials_non_expired")
     private Boolean credentialsNonExpired = true;
 
+    @Column(name = "security_version")
+    private Integer securityVersion = 0;
+
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
             inverseJoinColumns = @JoinColumn(name = "role_id"))
     private Set<Role> roles = new HashSet<>();
 
+    @Transient
+    private transient List<GrantedAuthority> authorities = List.of();
+
+    @Transient
+    private transient long roleMask;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -144,8 +157,34 @@ public class User implements UserDetails {
     public Boolean getCredentialsNonExpired() { return credentialsNonExpired; }
     public void setCredentialsNonExpired(Boolean credentialsNonExpired) { this.credentialsNonExpired = credentialsNonExpired; }
 
-    public Set<Role> getRoles() { return roles; }
-    public void setRoles(Set<Role> roles) { this.roles = roles; }
+    public Integer getSecurityVersion() { return securityVersion; }
+    public void setSecurityVersion(Integer securityVersion) { this.securityVersion = securityVersion; }
+
+    public void incrementSecurityVersion() {
+        this.securityVersion = (securityVersion == null ? 0 : securityVersion) + 1;
+    }
+
+    public Set<Role> getRoles() { return Collections.unmodifiableSet(roles); }
+    public void setRoles(Set<Role> roles) {
+        this.roles = roles;
+        cacheAuthorities();
+    }
+
+    @JsonIgnore
+    public long getRoleMask() { return roleMask; }
+
+    @PostLoad
+    void cacheAuthorities() {
+        if (roles == null) {
+            roles = new HashSet<>();
+        }
+        List<GrantedAuthority> interned = roles.stream()
+                .map(role -> (GrantedAuthority) RoleAuthority.of(role.getName()))
+                .distinct()
+                .toList();
+        this.roleMask = RoleAuthority.mask(interned);
+        this.authorities = interned;
+    }
 
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
@@ -156,9 +195,7 @@ public class User implements UserDetails {
     // UserDetails interface implementation
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return roles.stream()
-                .map(role -> new SimpleGrantedAuthority(role.getName()))
-                .collect(Collectors.toList());
+        return authorities;
     }
 
     @Override
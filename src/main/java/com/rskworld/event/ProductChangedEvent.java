@@ -0,0 +1,63 @@
+package com.rskworld.event;
+
+/**
+ * Product Changed Event
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published by {@code ProductService} whenever products are created, changed or deleted; bulk writes
+ * publish one event for the whole batch. Listeners re-read the products by id instead of trusting a
+ * copy carried by the event, so events handled out of order still leave them with the latest
+ * committed state.
+ *
+ * <p>A catalog reload event carries no ids and means that any product may have changed, as after a
+ * file import; listeners rebuild from the database instead.
+ */
+public class ProductChangedEvent {
+
+    private final List<Long> productIds;
+    private final boolean catalogReload;
+
+    public ProductChangedEvent(Long productId) {
+        this(List.of(productId), false);
+    }
+
+    public ProductChangedEvent(Collection<Long> productIds) {
+        this(productIds, false);
+    }
+
+    private ProductChangedEvent(Collection<Long> productIds, boolean catalogReload) {
+        this.productIds = List.copyOf(productIds);
+        this.catalogReload = catalogReload;
+    }
+
+    public static ProductChangedEvent catalogReload() {
+        return new ProductChangedEvent(List.of(), true);
+    }
+
+    public List<Long> getProductIds() {
+        return productIds;
+    }
+
+    public boolean isCatalogReload() {
+        return catalogReload;
+    }
+}
@@ -0,0 +1,45 @@
+package com.rskworld.importer;
+
+/**
+ * Import Error
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportError {
+
+    private final long line;
+    private final String sku;
+    private final List<String> messages;
+
+    public ImportError(long line, String sku, List<String> messages) {
+        this.line = line;
+        this.sku = sku;
+        this.messages = messages;
+    }
+
+    public long getLine() { return line; }
+
+    public String getSku() { return sku; }
+
+    public List<String> getMessages() { return messages; }
+}
@@ -0,0 +1,51 @@
+package com.rskworld.importer;
+
+/**
+ * Import Format
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import org.springframework.http.MediaType;
+
+public enum ImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String contentType;
+
+    ImportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        for (ImportFormat format : values()) {
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(format.contentType))) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,130 @@
+package com.rskworld.importer;
+
+/**
+ * Import Job
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one catalog import. Counters are updated by the pipeline stages while the job runs
+ * and may be read at any time; only the first {@code maxErrors} error rows are kept.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJob {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final ImportFormat format;
+    private final long startedAt = System.currentTimeMillis();
+    private final int maxErrors;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final List<ImportError> errors = new ArrayList<>();
+
+    private volatile State state = State.RUNNING;
+    private volatile long finishedAt;
+    private volatile String failure;
+
+    ImportJob(String id, ImportFormat format, int maxErrors) {
+        this.id = id;
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void reject(long line, String sku, List<String> messages) {
+        rowsRejected.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportError(line, sku, messages));
+            }
+        }
+    }
+
+    void created() {
+        created.incrementAndGet();
+    }
+
+    void updated() {
+        updated.incrementAndGet();
+    }
+
+    synchronized void complete() {
+        if (state == State.RUNNING) {
+            finishedAt = System.currentTimeMillis();
+            state = State.COMPLETED;
+        }
+    }
+
+    synchronized void fail(String message) {
+        if (state == State.RUNNING) {
+            failure = message;
+            finishedAt = System.currentTimeMillis();
+            state = State.FAILED;
+        }
+    }
+
+    public String getId() { return id; }
+
+    public ImportFormat getFormat() { return format; }
+
+    public State getState() { return state; }
+
+    public long getStartedAt() { return startedAt; }
+
+    public Long getFinishedAt() { return state == State.RUNNING ? null : finishedAt; }
+
+    public String getFailure() { return failure; }
+
+    public long getRowsRead() { return rowsRead.get(); }
+
+    public long getRowsRejected() { return rowsRejected.get(); }
+
+    public long getCreated() { return created.get(); }
+
+    public long getUpdated() { return updated.get(); }
+
+    public long getRowsPerSecond() {
+        long end = state == State.RUNNING ? System.currentTimeMillis() : finishedAt;
+        long elapsed = Math.max(1, end - startedAt);
+        return rowsRead.get() * 1000 / elapsed;
+    }
+
+    public List<ImportError> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+}
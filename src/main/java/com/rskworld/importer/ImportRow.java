@@ -0,0 +1,42 @@
+package com.rskworld.importer;
+
+/**
+ * Import Row
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.rskworld.entity.Product;
+
+/**
+ * One record of an import file as it moves between pipeline stages: either a parsed product or the
+ * reason it could not be parsed.
+ */
+final class ImportRow {
+
+    static final ImportRow END = new ImportRow(-1, null, null);
+
+    final long line;
+    final Product product;
+    final String parseError;
+
+    ImportRow(long line, Product product, String parseError) {
+        this.line = line;
+        this.product = product;
+        this.parseError = parseError;
+    }
+}
@@ -0,0 +1,313 @@
+package com.rskworld.importer;
+
+/**
+ * Product Import Service
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.rskworld.dto.ProductUpsertResult;
+import com.rskworld.entity.Product;
+import com.rskworld.exception.ServiceUnavailableException;
+import com.rskworld.service.ProductService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Loads supplier catalog files (CSV with a header row of product property names, or NDJSON) through
+ * three stages on their own threads: parse streams records from the uploaded file, validate applies
+ * the {@link Product} constraints and drops SKUs already seen in the file, and write upserts batches
+ * through {@link ProductService#importProducts}. Stages are joined by bounded queues, so a slow
+ * database throttles parsing instead of letting rows pile up in memory.
+ *
+ * <p>The product cache and search indexes are refreshed once, after the last batch, rather than per
+ * batch. Only one import runs at a time.
+ */
+@Service
+public class ProductImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductImportService.class);
+
+    private static final int BATCH_QUEUE_CAPACITY = 4;
+
+    private static final ObjectReader CSV_READER = CsvMapper.builder()
+            .enable(CsvParser.Feature.TRIM_SPACES, CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build()
+            .readerFor(Product.class)
+            .with(CsvSchema.emptySchema().withHeader());
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${import.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${import.max-error-rows:1000}")
+    private int maxErrorRows;
+
+    @Value("${import.retained-jobs:20}")
+    private int retainedJobs;
+
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>();
+    private final AtomicReference<ImportJob> running = new AtomicReference<>();
+
+    /**
+     * Copies {@code content} to a temporary file and starts importing it in the background.
+     *
+     * @throws ServiceUnavailableException if another import is still running
+     */
+    public ImportJob start(InputStream content, ImportFormat format) throws IOException {
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), format, maxErrorRows);
+        if (!running.compareAndSet(null, job)) {
+            throw new ServiceUnavailableException("Another catalog import is running");
+        }
+
+        Path spooled = null;
+        try {
+            spooled = Files.createTempFile("product-import-", "." + format.name().toLowerCase());
+            Files.copy(content, spooled, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            running.set(null);
+            if (spooled != null) {
+                Files.deleteIfExists(spooled);
+            }
+            throw e;
+        }
+
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            Iterator<ImportJob> oldest = jobs.values().iterator();
+            while (jobs.size() > retainedJobs && oldest.hasNext()) {
+                if (oldest.next().getState() != ImportJob.State.RUNNING) {
+                    oldest.remove();
+                }
+            }
+        }
+
+        Path file = spooled;
+        Thread thread = new Thread(() -> run(job, file), "product-import");
+        thread.setDaemon(true);
+        thread.start();
+        return job;
+    }
+
+    public ImportJob getJob(String id) {
+        synchronized (jobs) {
+            return jobs.get(id);
+        }
+    }
+
+    private void run(ImportJob job, Path file) {
+        BlockingQueue<ImportRow> rows = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<List<ImportRow>> batches = new ArrayBlockingQueue<>(BATCH_QUEUE_CAPACITY);
+
+        Thread[] stages = new Thread[3];
+        stages[0] = newStage(job, stages, "parse", () -> parse(job, file, rows));
+        stages[1] = newStage(job, stages, "validate", () -> validate(job, rows, batches));
+        stages[2] = newStage(job, stages, "write", () -> write(job, batches));
+        try {
+            for (Thread stage : stages) {
+                stage.start();
+            }
+            for (Thread stage : stages) {
+                stage.join();
+            }
+            if (job.getCreated() + job.getUpdated() > 0) {
+                productService.reloadCatalog();
+            }
+            job.complete();
+            logger.info("Catalog import {} {}: {} rows read, {} created, {} updated, {} rejected",
+                    job.getId(), job.getState(), job.getRowsRead(), job.getCreated(), job.getUpdated(),
+                    job.getRowsRejected());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Import was interrupted");
+            for (Thread stage : stages) {
+                stage.interrupt();
+            }
+        } catch (RuntimeException e) {
+            logger.error("Catalog import {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            running.set(null);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Unable to delete import file {}", file, e);
+            }
+        }
+    }
+
+    private Thread newStage(ImportJob job, Thread[] stages, String name, Stage body) {
+        Thread thread = new Thread(() -> {
+            try {
+                body.run();
+            } catch (InterruptedException e) {
+                // Another stage failed and stopped the pipeline
+            } catch (Exception e) {
+                logger.error("Catalog import {} failed in the {} stage", job.getId(), name, e);
+                job.fail(name + " stage failed: " + e.getMessage());
+                for (Thread stage : stages) {
+                    if (stage != Thread.currentThread()) {
+                        stage.interrupt();
+                    }
+                }
+            }
+        }, "product-import-" + name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private void parse(ImportJob job, Path file, BlockingQueue<ImportRow> rows)
+            throws IOException, InterruptedException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (job.getFormat() == ImportFormat.CSV) {
+                parseCsv(job, reader, rows);
+            } else {
+                parseNdjson(job, reader, rows);
+            }
+        }
+        rows.put(ImportRow.END);
+    }
+
+    private void parseCsv(ImportJob job, BufferedReader reader, BlockingQueue<ImportRow> rows)
+            throws IOException, InterruptedException {
+        try (MappingIterator<Product> records = CSV_READER.readValues(reader)) {
+            while (records.hasNextValue()) {
+                long line = records.getCurrentLocation().getLineNr();
+                ImportRow row;
+                try {
+                    row = new ImportRow(line, records.nextValue(), null);
+                } catch (JsonMappingException e) {
+                    row = new ImportRow(line, null, e.getOriginalMessage());
+                }
+                job.rowRead();
+                rows.put(row);
+            }
+        }
+    }
+
+    private void parseNdjson(ImportJob job, BufferedReader reader, BlockingQueue<ImportRow> rows)
+            throws IOException, InterruptedException {
+        ObjectReader productReader = objectMapper.readerFor(Product.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        long line = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            ImportRow row;
+            try {
+                row = new ImportRow(line, productReader.readValue(text), null);
+            } catch (JsonProcessingException e) {
+                row = new ImportRow(line, null, e.getOriginalMessage());
+            }
+            job.rowRead();
+            rows.put(row);
+        }
+    }
+
+    private void validate(ImportJob job, BlockingQueue<ImportRow> rows, BlockingQueue<List<ImportRow>> batches)
+            throws InterruptedException {
+        Set<String> seenSkus = new HashSet<>();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        for (ImportRow row = rows.take(); row != ImportRow.END; row = rows.take()) {
+            if (row.parseError != null) {
+                job.reject(row.line, null, List.of(row.parseError));
+                continue;
+            }
+            List<String> errors = productService.validateProduct(row.product);
+            if (errors.isEmpty() && !seenSkus.add(row.product.getSku())) {
+                errors = List.of("sku: appears earlier in the file");
+            }
+            if (!errors.isEmpty()) {
+                job.reject(row.line, row.product.getSku(), errors);
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                batches.put(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.put(batch);
+        }
+        batches.put(List.of());
+    }
+
+    private void write(ImportJob job, BlockingQueue<List<ImportRow>> batches) throws InterruptedException {
+        for (List<ImportRow> batch = batches.take(); !batch.isEmpty(); batch = batches.take()) {
+            List<ProductUpsertResult> results = productService.importProducts(batch.stream()
+                    .map(row -> row.product)
+                    .toList());
+            for (int i = 0; i < results.size(); i++) {
+                ProductUpsertResult result = results.get(i);
+                switch (result.getStatus()) {
+                    case CREATED -> job.created();
+                    case UPDATED -> job.updated();
+                    case REJECTED -> job.reject(batch.get(i).line, result.getSku(), result.getErrors());
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Stage {
+        void run() throws Exception;
+    }
+}
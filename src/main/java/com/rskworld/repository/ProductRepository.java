@@ -19,23 +19,35 @@ package com.rskworld.repository;
  * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
  */
 
+import com.rskworld.dto.ProductSummary;
 import com.rskworld.entity.Product;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+    String SELECT_SUMMARY = "SELECT new com.rskworld.dto.ProductSummary(p.id, p.name, p.price, p.sku, p.brand, p.category) FROM Product p ";
+
     Optional<Product> findBySku(String sku);
     
+    List<Product> findByIdIn(Collection<Long> ids);
+    
+    List<Product> findBySkuIn(Collection<String> skus);
+    
     Boolean existsBySku(String sku);
     
     List<Product> findByCategory(String category);
@@ -49,14 +61,53 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.active = true AND (p.name LIKE %:keyword% OR p.description LIKE %:keyword%)")
     List<Product> findActiveProductsByKeyword(@Param("keyword") String keyword);
     
-    @Query("SELECT p FROM Product p WHERE p.price BETWEEN :minPrice AND :maxPrice AND p.active = true")
-    List<Product> findActiveProductsByPriceRange(@Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice);
+    @Query("SELECT p FROM Product p WHERE p.active = true AND (p.name LIKE %:keyword% OR p.description LIKE %:keyword%)")
+    Page<Product> findActiveProductsByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    
+    List<Product> findByActiveTrueAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    @Query("SELECT p.id, p.name, p.brand, p.category, p.quantity FROM Product p WHERE p.active = true AND p.id > :afterId ORDER BY p.id")
+    List<Object[]> findActiveSuggestionSources(@Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query("SELECT p FROM Product p WHERE p.price BETWEEN :minPrice AND :maxPrice AND p.active = true ORDER BY p.price, p.id")
+    Page<Product> findActiveProductsByPriceRange(@Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice,
+                                                 Pageable pageable);
     
     @Query("SELECT p FROM Product p WHERE p.quantity <= :threshold AND p.active = true")
     List<Product> findLowStockProducts(@Param("threshold") Integer threshold);
     
     Page<Product> findByActiveTrue(Pageable pageable);
     
+    Window<Product> findByActiveTrue(ScrollPosition position, Sort sort, Limit limit);
+    
     @Query("SELECT p FROM Product p WHERE p.active = true ORDER BY p.createdAt DESC")
     List<Product> findLatestActiveProducts();
+    
+    // Listing projections
+    @Query(SELECT_SUMMARY + "WHERE p.active = true")
+    List<ProductSummary> findActiveSummaries();
+    
+    @Query(value = SELECT_SUMMARY + "WHERE p.active = true",
+            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.active = true")
+    Page<ProductSummary> findActiveSummaries(Pageable pageable);
+    
+    @Query(SELECT_SUMMARY + "WHERE p.category = :category")
+    List<ProductSummary> findSummariesByCategory(@Param("category") String category);
+    
+    @Query(SELECT_SUMMARY + "WHERE p.brand = :brand")
+    List<ProductSummary> findSummariesByBrand(@Param("brand") String brand);
+    
+    @Query(value = SELECT_SUMMARY + "WHERE p.price BETWEEN :minPrice AND :maxPrice AND p.active = true ORDER BY p.price, p.id",
+            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.price BETWEEN :minPrice AND :maxPrice AND p.active = true")
+    Page<ProductSummary> findActiveSummariesByPriceRange(@Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice,
+                                                         Pageable pageable);
+    
+    @Query(SELECT_SUMMARY + "WHERE p.quantity <= :threshold AND p.active = true")
+    List<ProductSummary> findLowStockSummaries(@Param("threshold") Integer threshold);
+    
+    @Query(SELECT_SUMMARY + "WHERE p.active = true ORDER BY p.createdAt DESC")
+    List<ProductSummary> findLatestActiveSummaries();
+    
+    @Query(SELECT_SUMMARY + "WHERE p.active = true AND p.id IN :ids")
+    List<ProductSummary> findActiveSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
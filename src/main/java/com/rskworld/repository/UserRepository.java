@@ -43,4 +43,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     @Query("SELECT u FROM User u WHERE u.id = :id AND u.enabled = true")
     Optional<User> findActiveUserById(@Param("id") Long id);
+    
+    @Query("SELECT COALESCE(u.securityVersion, 0) FROM User u WHERE u.id = :id AND u.enabled = true")
+    Optional<Integer> findActiveSecurityVersionById(@Param("id") Long id);
 }
@@ -0,0 +1,354 @@
+package com.rskworld.search;
+
+/**
+ * Facet Index
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.rskworld.entity.Product;
+import jakarta.annotation.PostConstruct;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Category, brand and price bucket bitmaps over active products. Products are numbered with dense
+ * ordinals so the bitmaps stay compact whatever the id distribution. Published bitmaps are never
+ * modified: an update copies the affected bitmaps and swaps the copies in, so queries read them
+ * without locking.
+ */
+@Component
+public class FacetIndex extends ProductIndexSupport<FacetIndex.FacetData, FacetIndex.FacetData> {
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    @Value("${search.facets.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.facets.price-buckets:25,50,100,250,500,1000}")
+    private BigDecimal[] priceBoundaries;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    private String[] priceLabels;
+
+    @PostConstruct
+    void init() {
+        Arrays.sort(priceBoundaries);
+        priceLabels = new String[priceBoundaries.length + 1];
+        BigDecimal lower = BigDecimal.ZERO;
+        for (int i = 0; i < priceBoundaries.length; i++) {
+            priceLabels[i] = lower.toPlainString() + "-" + priceBoundaries[i].toPlainString();
+            lower = priceBoundaries[i];
+        }
+        priceLabels[priceBoundaries.length] = lower.toPlainString() + "+";
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns one page of the active products matching all given filters, plus facet counts. Blank
+     * filters are ignored. Results are ranked by relevance when a keyword is given, otherwise they
+     * come in index order. Returns {@code null} while a required index is not built.
+     */
+    public FacetResult search(String keyword, String category, String brand, BigDecimal minPrice,
+                              BigDecimal maxPrice, int offset, int limit) {
+        FacetData index = current();
+        if (index == null) {
+            return null;
+        }
+
+        RoaringBitmap base = index.live;
+        Matches matches = null;
+        if (keyword != null && !keyword.isBlank()) {
+            matches = productSearchIndex.match(keyword);
+            if (matches == null) {
+                return null;
+            }
+            RoaringBitmap keywordBitmap = new RoaringBitmap();
+            for (int i = 0; i < matches.getCount(); i++) {
+                Integer ordinal = index.ordinals.get(matches.getId(i));
+                if (ordinal != null) {
+                    keywordBitmap.add(ordinal);
+                }
+            }
+            base = RoaringBitmap.and(base, keywordBitmap);
+        }
+
+        RoaringBitmap categoryFilter = isBlank(category) ? null : index.categories.getOrDefault(category, EMPTY);
+        RoaringBitmap brandFilter = isBlank(brand) ? null : index.brands.getOrDefault(brand, EMPTY);
+        RoaringBitmap priceFilter = minPrice == null && maxPrice == null ? null : priceRange(index, minPrice, maxPrice);
+
+        RoaringBitmap matching = and(base, categoryFilter, brandFilter, priceFilter);
+
+        Map<String, Long> categoryCounts = counts(and(base, brandFilter, priceFilter), index.categories);
+        Map<String, Long> brandCounts = counts(and(base, categoryFilter, priceFilter), index.brands);
+        RoaringBitmap withoutPrice = and(base, categoryFilter, brandFilter);
+        Map<String, Long> priceCounts = new LinkedHashMap<>();
+        for (int i = 0; i < priceLabels.length; i++) {
+            long count = RoaringBitmap.andCardinality(withoutPrice, index.priceBuckets.get(i));
+            if (count > 0) {
+                priceCounts.put(priceLabels[i], count);
+            }
+        }
+
+        SearchResult products;
+        if (matches != null) {
+            products = matches.rank(id -> {
+                Integer ordinal = index.ordinals.get(id);
+                return ordinal != null && matching.contains(ordinal);
+            }, offset, limit);
+        } else {
+            Entry[] entries = index.entries;
+            long total = matching.getLongCardinality();
+            List<Long> page = new ArrayList<>();
+            for (long i = offset; i < total && page.size() < limit; i++) {
+                Entry entry = entries[matching.select((int) i)];
+                if (entry != null) {
+                    page.add(entry.productId);
+                }
+            }
+            products = new SearchResult(page, total);
+        }
+        return new FacetResult(products, categoryCounts, brandCounts, priceCounts);
+    }
+
+    private RoaringBitmap priceRange(FacetData index, BigDecimal minPrice, BigDecimal maxPrice) {
+        int firstBucket = minPrice == null ? 0 : bucketOf(minPrice);
+        int lastBucket = maxPrice == null ? priceLabels.length - 1 : bucketOf(maxPrice);
+        RoaringBitmap range = new RoaringBitmap();
+        for (int bucket = firstBucket; bucket <= lastBucket; bucket++) {
+            RoaringBitmap members = index.priceBuckets.get(bucket);
+            if (bucket != firstBucket && bucket != lastBucket) {
+                range.or(members);
+                continue;
+            }
+            Entry[] entries = index.entries;
+            members.forEach((int ordinal) -> {
+                Entry entry = entries[ordinal];
+                if (entry != null
+                        && (minPrice == null || entry.price.compareTo(minPrice) >= 0)
+                        && (maxPrice == null || entry.price.compareTo(maxPrice) <= 0)) {
+                    range.add(ordinal);
+                }
+            });
+        }
+        return range;
+    }
+
+    private int bucketOf(BigDecimal price) {
+        int bucket = 0;
+        while (bucket < priceBoundaries.length && price.compareTo(priceBoundaries[bucket]) >= 0) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static RoaringBitmap and(RoaringBitmap base, RoaringBitmap... filters) {
+        RoaringBitmap result = base;
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result = RoaringBitmap.and(result, filter);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Long> counts(RoaringBitmap filter, Map<String, RoaringBitmap> values) {
+        List<Map.Entry<String, Long>> counts = new ArrayList<>();
+        values.forEach((value, bitmap) -> {
+            long count = RoaringBitmap.andCardinality(filter, bitmap);
+            if (count > 0) {
+                counts.add(Map.entry(value, count));
+            }
+        });
+        counts.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @Override
+    protected FacetData newBuilder() {
+        return new FacetData(priceLabels.length);
+    }
+
+    @Override
+    protected void add(FacetData builder, Product product) {
+        int ordinal = builder.nextOrdinal++;
+        Entry entry = newEntry(product);
+        builder.ordinals.put(product.getId(), ordinal);
+        builder.setEntry(ordinal, entry);
+        builder.live.add(ordinal);
+        builder.priceBuckets.get(entry.priceBucket).add(ordinal);
+        if (entry.category != null) {
+            builder.categories.computeIfAbsent(entry.category, c -> new RoaringBitmap()).add(ordinal);
+        }
+        if (entry.brand != null) {
+            builder.brands.computeIfAbsent(entry.brand, b -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    @Override
+    protected FacetData finish(FacetData builder) {
+        builder.live.runOptimize();
+        builder.categories.values().forEach(RoaringBitmap::runOptimize);
+        builder.brands.values().forEach(RoaringBitmap::runOptimize);
+        return builder;
+    }
+
+    @Override
+    protected void update(FacetData index, Long productId, Product product) {
+        Integer ordinal = index.ordinals.get(productId);
+        Entry previous = ordinal == null ? null : index.entries[ordinal];
+        Entry next = product == null ? null : newEntry(product);
+
+        if (ordinal == null) {
+            if (next == null) {
+                return;
+            }
+            ordinal = index.nextOrdinal++;
+            index.ordinals.put(productId, ordinal);
+        }
+        index.setEntry(ordinal, next);
+
+        String previousCategory = previous == null ? null : previous.category;
+        String nextCategory = next == null ? null : next.category;
+        if (!Objects.equals(previousCategory, nextCategory)) {
+            modify(index.categories, previousCategory, ordinal, false);
+            modify(index.categories, nextCategory, ordinal, true);
+        }
+        String previousBrand = previous == null ? null : previous.brand;
+        String nextBrand = next == null ? null : next.brand;
+        if (!Objects.equals(previousBrand, nextBrand)) {
+            modify(index.brands, previousBrand, ordinal, false);
+            modify(index.brands, nextBrand, ordinal, true);
+        }
+        int previousBucket = previous == null ? -1 : previous.priceBucket;
+        int nextBucket = next == null ? -1 : next.priceBucket;
+        if (previousBucket != nextBucket) {
+            if (previousBucket >= 0) {
+                index.priceBuckets.set(previousBucket, copyWith(index.priceBuckets.get(previousBucket), ordinal, false));
+            }
+            if (nextBucket >= 0) {
+                index.priceBuckets.set(nextBucket, copyWith(index.priceBuckets.get(nextBucket), ordinal, true));
+            }
+        }
+        if ((previous == null) != (next == null)) {
+            index.live = copyWith(index.live, ordinal, next != null);
+        }
+        if (next == null) {
+            index.ordinals.remove(productId);
+        }
+    }
+
+    private static void modify(Map<String, RoaringBitmap> values, String value, int ordinal, boolean add) {
+        if (value == null) {
+            return;
+        }
+        values.compute(value, (v, bitmap) -> {
+            RoaringBitmap copy = copyWith(bitmap == null ? EMPTY : bitmap, ordinal, add);
+            return copy.isEmpty() ? null : copy;
+        });
+    }
+
+    private static RoaringBitmap copyWith(RoaringBitmap bitmap, int ordinal, boolean add) {
+        RoaringBitmap copy = bitmap.clone();
+        if (add) {
+            copy.add(ordinal);
+        } else {
+            copy.remove(ordinal);
+        }
+        return copy;
+    }
+
+    private Entry newEntry(Product product) {
+        BigDecimal price = product.getPrice() == null ? BigDecimal.ZERO : product.getPrice();
+        return new Entry(product.getId(), blankToNull(product.getCategory()), blankToNull(product.getBrand()),
+                price, bucketOf(price));
+    }
+
+    private static String blankToNull(String value) {
+        return isBlank(value) ? null : value;
+    }
+
+    private static final class Entry {
+        final long productId;
+        final String category;
+        final String brand;
+        final BigDecimal price;
+        final int priceBucket;
+
+        Entry(long productId, String category, String brand, BigDecimal price, int priceBucket) {
+            this.productId = productId;
+            this.category = category;
+            this.brand = brand;
+            this.price = price;
+            this.priceBucket = priceBucket;
+        }
+    }
+
+    /**
+     * Mutable only while it is being built; after that only {@link #update} changes it, under the
+     * write lock, by swapping in new bitmaps and entries.
+     */
+    static final class FacetData {
+        final Map<Long, Integer> ordinals = new ConcurrentHashMap<>();
+        final Map<String, RoaringBitmap> categories = new ConcurrentHashMap<>();
+        final Map<String, RoaringBitmap> brands = new ConcurrentHashMap<>();
+        final AtomicReferenceArray<RoaringBitmap> priceBuckets;
+        volatile RoaringBitmap live = new RoaringBitmap();
+        volatile Entry[] entries = new Entry[1024];
+        int nextOrdinal;
+
+        FacetData(int bucketCount) {
+            priceBuckets = new AtomicReferenceArray<>(bucketCount);
+            for (int i = 0; i < bucketCount; i++) {
+                priceBuckets.set(i, new RoaringBitmap());
+            }
+        }
+
+        void setEntry(int ordinal, Entry entry) {
+            Entry[] current = entries;
+            if (ordinal >= current.length) {
+                current = Arrays.copyOf(current, Math.max(ordinal + 1, current.length * 2));
+            }
+            current[ordinal] = entry;
+            entries = current;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.rskworld.search;
+
+/**
+ * Facet Result
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import java.util.Map;
+
+/**
+ * One page of matching product ids with facet counts. Each facet is counted with every filter
+ * applied except its own, so the counts show what selecting another value would return.
+ */
+public class FacetResult {
+
+    private final SearchResult products;
+    private final Map<String, Long> categories;
+    private final Map<String, Long> brands;
+    private final Map<String, Long> priceRanges;
+
+    public FacetResult(SearchResult products, Map<String, Long> categories, Map<String, Long> brands,
+                       Map<String, Long> priceRanges) {
+        this.products = products;
+        this.categories = categories;
+        this.brands = brands;
+        this.priceRanges = priceRanges;
+    }
+
+    public SearchResult getProducts() {
+        return products;
+    }
+
+    public Map<String, Long> getCategories() {
+        return categories;
+    }
+
+    public Map<String, Long> getBrands() {
+        return brands;
+    }
+
+    public Map<String, Long> getPriceRanges() {
+        return priceRanges;
+    }
+}
@@ -0,0 +1,130 @@
+package com.rskworld.search;
+
+/**
+ * Matches
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * All products matching a keyword query, sorted by id, with their relevance scores.
+ */
+public class Matches {
+
+    static final Matches NONE = new Matches(new long[0], new double[0], 0);
+
+    private final long[] ids;
+    private final double[] scores;
+    private final int count;
+
+    Matches(long[] ids, double[] scores, int count) {
+        this.ids = ids;
+        this.scores = scores;
+        this.count = count;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getId(int index) {
+        return ids[index];
+    }
+
+    /**
+     * Ranks the matches accepted by {@code filter}, best first, and returns one page of them. Only the
+     * best {@code offset + limit} matches are kept, in a bounded heap, instead of sorting them all.
+     */
+    public SearchResult rank(LongPredicate filter, int offset, int limit) {
+        int keep = (int) Math.min((long) offset + limit, count);
+        int[] heap = new int[keep];
+        int heapSize = 0;
+        int accepted = 0;
+        for (int i = 0; i < count; i++) {
+            if (!filter.test(ids[i])) {
+                continue;
+            }
+            accepted++;
+            if (heapSize < keep) {
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++);
+            } else if (keep > 0 && ranksBefore(i, heap[0])) {
+                heap[0] = i;
+                siftDown(heap, 0, heapSize);
+            }
+        }
+
+        // The root is the worst match kept, so popping fills the page from the back
+        int[] order = new int[heapSize];
+        for (int last = heapSize - 1; last >= 0; last--) {
+            order[last] = heap[0];
+            heap[0] = heap[last];
+            siftDown(heap, 0, last);
+        }
+
+        int from = Math.min(offset, order.length);
+        List<Long> page = new ArrayList<>(order.length - from);
+        for (int i = from; i < order.length; i++) {
+            page.add(ids[order[i]]);
+        }
+        return new SearchResult(page, accepted);
+    }
+
+    private boolean ranksBefore(int x, int y) {
+        return scores[x] != scores[y] ? scores[x] > scores[y] : ids[x] < ids[y];
+    }
+
+    private void siftUp(int[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksBefore(heap[parent], heap[index])) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int index, int size) {
+        while (true) {
+            int worst = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && ranksBefore(heap[worst], heap[left])) {
+                worst = left;
+            }
+            if (right < size && ranksBefore(heap[worst], heap[right])) {
+                worst = right;
+            }
+            if (worst == index) {
+                return;
+            }
+            swap(heap, index, worst);
+            index = worst;
+        }
+    }
+
+    private static void swap(int[] heap, int a, int b) {
+        int value = heap[a];
+        heap[a] = heap[b];
+        heap[b] = value;
+    }
+}
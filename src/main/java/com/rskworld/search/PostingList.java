@@ -0,0 +1,415 @@
+package com.rskworld.search;
+
+/**
+ * Posting List
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable, compressed list of the products containing a term. Product ids are sorted and stored as
+ * varint-encoded gaps, each followed by the varint term weight for that product. Every
+ * {@value #SKIP_INTERVAL} entries a skip entry records the preceding id and the byte offset, so a
+ * {@link Cursor} can jump close to an id instead of decoding every gap before it.
+ *
+ * <p>Updates go to a small sorted tail of ids and weights next to the encoded entries, where a zero
+ * weight removes an encoded id. Only the tail is copied on each update; once it outgrows the square
+ * root of the list size it is merged back and the list re-encoded, which keeps both costs near
+ * {@code sqrt(n)} per update. Updates return a new list, so readers never
+ * see a list being modified.
+ */
+final class PostingList {
+
+    static final PostingList EMPTY = new PostingList(new byte[0], 0, new long[0], new int[0],
+            new long[0], new int[0], 0);
+
+    private static final int MAX_ENTRY_BYTES = 15;
+    private static final int SKIP_INTERVAL = 64;
+    private static final int MIN_TAIL_LENGTH = 16;
+
+    private final byte[] data;
+    private final int encodedSize;
+    private final long[] skipIds;
+    private final int[] skipOffsets;
+    private final long[] tailIds;
+    private final int[] tailWeights;
+    private final int size;
+
+    private PostingList(byte[] data, int encodedSize, long[] skipIds, int[] skipOffsets,
+                        long[] tailIds, int[] tailWeights, int size) {
+        this.data = data;
+        this.encodedSize = encodedSize;
+        this.skipIds = skipIds;
+        this.skipOffsets = skipOffsets;
+        this.tailIds = tailIds;
+        this.tailWeights = tailWeights;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Cursor cursor() {
+        return new ListCursor();
+    }
+
+    Postings decode() {
+        long[] ids = new long[size];
+        int[] weights = new int[size];
+        int count = 0;
+        Cursor cursor = cursor();
+        for (long target = Long.MIN_VALUE; cursor.advance(target); target = cursor.id() + 1) {
+            ids[count] = cursor.id();
+            weights[count++] = cursor.weight();
+        }
+        return new Postings(ids, weights, count);
+    }
+
+    PostingList with(long id, int weight) {
+        int index = Arrays.binarySearch(tailIds, id);
+        int previous = index >= 0 ? tailWeights[index] : encodedWeight(id);
+        if (previous == weight) {
+            return this;
+        }
+        return withTailEntry(index, id, weight, previous == 0 ? size + 1 : size);
+    }
+
+    PostingList without(long id) {
+        int index = Arrays.binarySearch(tailIds, id);
+        if (index >= 0 && tailWeights[index] == 0) {
+            return this;
+        }
+        int encoded = encodedWeight(id);
+        if (index < 0 && encoded == 0) {
+            return this;
+        }
+        if (index >= 0 && encoded == 0) {
+            long[] ids = new long[tailIds.length - 1];
+            int[] weights = new int[tailIds.length - 1];
+            System.arraycopy(tailIds, 0, ids, 0, index);
+            System.arraycopy(tailWeights, 0, weights, 0, index);
+            System.arraycopy(tailIds, index + 1, ids, index, ids.length - index);
+            System.arraycopy(tailWeights, index + 1, weights, index, weights.length - index);
+            return withTail(ids, weights, size - 1);
+        }
+        return withTailEntry(index, id, 0, size - 1);
+    }
+
+    private PostingList withTailEntry(int index, long id, int weight, int newSize) {
+        long[] ids;
+        int[] weights;
+        if (index >= 0) {
+            ids = tailIds;
+            weights = Arrays.copyOf(tailWeights, tailWeights.length);
+            weights[index] = weight;
+        } else {
+            int insertAt = -index - 1;
+            ids = new long[tailIds.length + 1];
+            weights = new int[tailIds.length + 1];
+            System.arraycopy(tailIds, 0, ids, 0, insertAt);
+            System.arraycopy(tailWeights, 0, weights, 0, insertAt);
+            ids[insertAt] = id;
+            weights[insertAt] = weight;
+            System.arraycopy(tailIds, insertAt, ids, insertAt + 1, tailIds.length - insertAt);
+            System.arraycopy(tailWeights, insertAt, weights, insertAt + 1, tailWeights.length - insertAt);
+        }
+        return withTail(ids, weights, newSize);
+    }
+
+    private PostingList withTail(long[] ids, int[] weights, int newSize) {
+        if (newSize == 0) {
+            return EMPTY;
+        }
+        PostingList next = new PostingList(data, encodedSize, skipIds, skipOffsets, ids, weights, newSize);
+        if (ids.length <= Math.max(MIN_TAIL_LENGTH, (int) Math.sqrt(newSize))) {
+            return next;
+        }
+        Postings postings = next.decode();
+        return encode(postings.ids, postings.weights, postings.size);
+    }
+
+    private int encodedWeight(long id) {
+        EncodedCursor cursor = new EncodedCursor();
+        return cursor.advance(id) && cursor.id == id ? cursor.weight : 0;
+    }
+
+    /**
+     * Index of the last skip entry preceding {@code target}; block 0 starts the list.
+     */
+    private int blockFor(long target) {
+        int low = 1;
+        int high = skipIds.length - 1;
+        int block = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (skipIds[mid] < target) {
+                block = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return block;
+    }
+
+    static PostingList encode(long[] ids, int[] weights, int size) {
+        if (size == 0) {
+            return EMPTY;
+        }
+        int blocks = (size + SKIP_INTERVAL - 1) / SKIP_INTERVAL;
+        long[] skipIds = new long[blocks];
+        int[] skipOffsets = new int[blocks];
+        byte[] buffer = new byte[size * MAX_ENTRY_BYTES];
+        int position = 0;
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            if (i % SKIP_INTERVAL == 0) {
+                skipIds[i / SKIP_INTERVAL] = previous;
+                skipOffsets[i / SKIP_INTERVAL] = position;
+            }
+            position = writeVarLong(buffer, position, ids[i] - previous);
+            position = writeVarLong(buffer, position, weights[i]);
+            previous = ids[i];
+        }
+        return new PostingList(Arrays.copyOf(buffer, position), size, skipIds, skipOffsets,
+                EMPTY.tailIds, EMPTY.tailWeights, size);
+    }
+
+    private static int writeVarLong(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    /**
+     * Merges lists in one pass over all of them, keeping the highest weight for ids present in several.
+     */
+    static Postings union(Collection<PostingList> lists) {
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(Comparator.comparingLong(Cursor::id));
+        int capacity = 0;
+        for (PostingList list : lists) {
+            Cursor cursor = list.cursor();
+            if (cursor.advance(Long.MIN_VALUE)) {
+                heads.add(cursor);
+                capacity += list.size();
+            }
+        }
+        long[] ids = new long[capacity];
+        int[] weights = new int[capacity];
+        int count = 0;
+        while (!heads.isEmpty()) {
+            Cursor cursor = heads.poll();
+            if (count > 0 && ids[count - 1] == cursor.id()) {
+                weights[count - 1] = Math.max(weights[count - 1], cursor.weight());
+            } else {
+                ids[count] = cursor.id();
+                weights[count++] = cursor.weight();
+            }
+            if (cursor.advance(cursor.id() + 1)) {
+                heads.add(cursor);
+            }
+        }
+        return new Postings(ids, weights, count);
+    }
+
+    /**
+     * Forward-only position in a list of ascending ids.
+     */
+    abstract static class Cursor {
+
+        /**
+         * Moves to the first id not below {@code target}, or stays put if already there. Returns
+         * {@code false} once no such id is left.
+         */
+        abstract boolean advance(long target);
+
+        abstract long id();
+
+        abstract int weight();
+    }
+
+    /**
+     * Walks the encoded entries, jumping to the block holding the target through the skip entries.
+     */
+    private final class EncodedCursor {
+        private int index = -1;
+        private int position;
+        private long id;
+        private int weight;
+
+        boolean advance(long target) {
+            if (index >= encodedSize) {
+                return false;
+            }
+            if (index >= 0 && id >= target) {
+                return true;
+            }
+            int block = blockFor(target);
+            if (block * SKIP_INTERVAL > index + 1) {
+                index = block * SKIP_INTERVAL - 1;
+                position = skipOffsets[block];
+                id = skipIds[block];
+            }
+            while (++index < encodedSize) {
+                id += readVarLong();
+                weight = (int) readVarLong();
+                if (id >= target) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+
+    /**
+     * Merges the encoded entries with the tail, where tail entries take precedence.
+     */
+    private final class ListCursor extends Cursor {
+        private final EncodedCursor encoded = new EncodedCursor();
+        private int tailIndex;
+        private boolean positioned;
+        private long id;
+        private int weight;
+
+        @Override
+        boolean advance(long target) {
+            if (positioned && id >= target) {
+                return true;
+            }
+            while (true) {
+                boolean hasEncoded = encoded.advance(target);
+                int found = Arrays.binarySearch(tailIds, tailIndex, tailIds.length, target);
+                tailIndex = found >= 0 ? found : -found - 1;
+                boolean hasTail = tailIndex < tailIds.length;
+                if (!hasEncoded && !hasTail) {
+                    positioned = false;
+                    return false;
+                }
+                long encodedId = hasEncoded ? encoded.id : Long.MAX_VALUE;
+                if (hasTail && tailIds[tailIndex] <= encodedId) {
+                    if (tailWeights[tailIndex] == 0) {
+                        target = tailIds[tailIndex] + 1;
+                        continue;
+                    }
+                    id = tailIds[tailIndex];
+                    weight = tailWeights[tailIndex];
+                } else {
+                    id = encodedId;
+                    weight = encoded.weight;
+                }
+                positioned = true;
+                return true;
+            }
+        }
+
+        @Override
+        long id() {
+            return id;
+        }
+
+        @Override
+        int weight() {
+            return weight;
+        }
+    }
+
+    /**
+     * Decoded view of a posting list: {@code size} sorted ids and their weights.
+     */
+    static final class Postings {
+        static final Postings EMPTY = new Postings(new long[0], new int[0], 0);
+
+        final long[] ids;
+        final int[] weights;
+        final int size;
+
+        Postings(long[] ids, int[] weights, int size) {
+            this.ids = ids;
+            this.weights = weights;
+            this.size = size;
+        }
+
+        Cursor cursor() {
+            return new Cursor() {
+                private int index = -1;
+
+                @Override
+                boolean advance(long target) {
+                    if (index >= 0 && index < size && ids[index] >= target) {
+                        return true;
+                    }
+                    int found = Arrays.binarySearch(ids, Math.max(index, 0), size, target);
+                    index = found >= 0 ? found : -found - 1;
+                    return index < size;
+                }
+
+                @Override
+                long id() {
+                    return ids[index];
+                }
+
+                @Override
+                int weight() {
+                    return weights[index];
+                }
+            };
+        }
+    }
+
+    /**
+     * Collects postings appended in ascending id order, as during a full index build.
+     */
+    static final class Builder {
+        private long[] ids = new long[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        void add(long id, int weight) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            ids[size] = id;
+            weights[size++] = weight;
+        }
+
+        PostingList build() {
+            return encode(ids, weights, size);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.rskworld.search;
+
+/**
+ * Price Index
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.rskworld.entity.Product;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prices of active products as whole cents in two parallel primitive arrays sorted by (price, id),
+ * so a price range is two binary searches. Each batch of updates is merged into one copy of the
+ * arrays and the copy published, so range queries read a consistent snapshot without locking.
+ */
+@Component
+public class PriceIndex extends ProductIndexSupport<PriceIndex.Builder, PriceIndex.IndexData> {
+
+    private static final Comparator<long[]> BY_PRICE_AND_ID =
+            (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]);
+
+    @Value("${search.price-index.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns one page of the active products priced within [minPrice, maxPrice], cheapest first, with
+     * the number of products in the range, or {@code null} while the index is not built.
+     */
+    public SearchResult findIds(BigDecimal minPrice, BigDecimal maxPrice, int offset, int limit) {
+        IndexData index = current();
+        if (index == null) {
+            return null;
+        }
+        Sorted sorted = index.sorted;
+        int from = lowerBound(sorted.cents, toCents(minPrice, RoundingMode.CEILING));
+        int to = lowerBound(sorted.cents, toCents(maxPrice, RoundingMode.FLOOR) + 1);
+        if (from >= to) {
+            return SearchResult.EMPTY;
+        }
+        int pageFrom = (int) Math.min((long) from + offset, to);
+        int pageTo = (int) Math.min((long) pageFrom + limit, to);
+        List<Long> page = new ArrayList<>(pageTo - pageFrom);
+        for (int i = pageFrom; i < pageTo; i++) {
+            page.add(sorted.ids[i]);
+        }
+        return new SearchResult(page, to - from);
+    }
+
+    private static long toCents(BigDecimal price, RoundingMode roundingMode) {
+        BigDecimal cents = price.movePointRight(2).setScale(0, roundingMode);
+        if (cents.compareTo(BigDecimal.valueOf(Long.MAX_VALUE - 1)) > 0) {
+            return Long.MAX_VALUE - 1;
+        }
+        return Math.max(Long.MIN_VALUE + 1, cents.longValue());
+    }
+
+    private static int lowerBound(long[] values, long key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    protected Builder newBuilder() {
+        return new Builder();
+    }
+
+    @Override
+    protected void add(Builder builder, Product product) {
+        if (product.getPrice() != null) {
+            builder.prices.put(product.getId(), toCents(product.getPrice(), RoundingMode.HALF_UP));
+        }
+    }
+
+    @Override
+    protected IndexData finish(Builder builder) {
+        int size = builder.prices.size();
+        long[][] entries = new long[size][];
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : builder.prices.entrySet()) {
+            entries[i++] = new long[] {entry.getValue(), entry.getKey()};
+        }
+        Arrays.sort(entries, BY_PRICE_AND_ID);
+
+        long[] cents = new long[size];
+        long[] ids = new long[size];
+        for (i = 0; i < size; i++) {
+            cents[i] = entries[i][0];
+            ids[i] = entries[i][1];
+        }
+        return new IndexData(new Sorted(cents, ids), new ConcurrentHashMap<>(builder.prices));
+    }
+
+    @Override
+    protected void update(IndexData index, Long productId, Product product) {
+        updateAll(index, List.of(productId), product == null ? Map.of() : Map.of(productId, product));
+    }
+
+    /**
+     * Applies a batch of price changes in one merge pass over the sorted arrays and publishes a single
+     * copy, instead of copying the arrays once per changed product.
+     */
+    @Override
+    protected void updateAll(IndexData index, List<Long> productIds, Map<Long, Product> active) {
+        List<long[]> removals = new ArrayList<>();
+        List<long[]> insertions = new ArrayList<>();
+        for (Long productId : productIds) {
+            Product product = active.get(productId);
+            Long previous = index.pricesById.get(productId);
+            Long next = product == null || product.getPrice() == null
+                    ? null
+                    : toCents(product.getPrice(), RoundingMode.HALF_UP);
+            if (Objects.equals(previous, next)) {
+                continue;
+            }
+            if (previous != null) {
+                removals.add(new long[] {previous, productId});
+                index.pricesById.remove(productId);
+            }
+            if (next != null) {
+                insertions.add(new long[] {next, productId});
+                index.pricesById.put(productId, next);
+            }
+        }
+        if (removals.isEmpty() && insertions.isEmpty()) {
+            return;
+        }
+        removals.sort(BY_PRICE_AND_ID);
+        insertions.sort(BY_PRICE_AND_ID);
+
+        Sorted sorted = index.sorted;
+        int size = sorted.cents.length;
+        long[] cents = new long[size - removals.size() + insertions.size()];
+        long[] ids = new long[cents.length];
+        int out = 0;
+        int removal = 0;
+        int insertion = 0;
+        for (int i = 0; i < size; i++) {
+            while (insertion < insertions.size()
+                    && precedes(insertions.get(insertion), sorted.cents[i], sorted.ids[i])) {
+                long[] entry = insertions.get(insertion++);
+                cents[out] = entry[0];
+                ids[out++] = entry[1];
+            }
+            if (removal < removals.size() && removals.get(removal)[0] == sorted.cents[i]
+                    && removals.get(removal)[1] == sorted.ids[i]) {
+                removal++;
+                continue;
+            }
+            cents[out] = sorted.cents[i];
+            ids[out++] = sorted.ids[i];
+        }
+        while (insertion < insertions.size()) {
+            long[] entry = insertions.get(insertion++);
+            cents[out] = entry[0];
+            ids[out++] = entry[1];
+        }
+        index.sorted = new Sorted(cents, ids);
+    }
+
+    private static boolean precedes(long[] entry, long cents, long id) {
+        return entry[0] != cents ? entry[0] < cents : entry[1] < id;
+    }
+
+    static final class Builder {
+        final Map<Long, Long> prices = new HashMap<>();
+    }
+
+    private static final class Sorted {
+        final long[] cents;
+        final long[] ids;
+
+        Sorted(long[] cents, long[] ids) {
+            this.cents = cents;
+            this.ids = ids;
+        }
+    }
+
+    static final class IndexData {
+        volatile Sorted sorted;
+        final ConcurrentHashMap<Long, Long> pricesById;
+
+        IndexData(Sorted sorted, ConcurrentHashMap<Long, Long> pricesById) {
+            this.sorted = sorted;
+            this.pricesById = pricesById;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.rskworld.search;
+
+/**
+ * Product Index Support
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.rskworld.entity.Product;
+import com.rskworld.event.ProductChangedEvent;
+import com.rskworld.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Lifecycle shared by the in-memory product indexes. The index is built in the background once the
+ * application is ready, reading active products in id order, and then kept current from
+ * {@link ProductChangedEvent}s. Until the first build finishes {@link #current()} is {@code null} and
+ * callers fall back or report that the index is not ready.
+ *
+ * <p>Change events only queue the product ids; a single background thread per index drains the queue,
+ * re-reading all queued products in one query, so writers never wait on index maintenance and a
+ * burst of changes is applied as one batch. Updates are serialised and re-read the products from the
+ * database, so an index converges on the committed state no matter in which order concurrent updates
+ * are delivered. Products changed while a build is running are replayed once the new index is
+ * installed.
+ *
+ * @param <B> state collected while building
+ * @param <D> the published index
+ */
+public abstract class ProductIndexSupport<B, D> {
+
+    protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Value("${search.index.batch-size:1000}")
+    private int batchSize;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final Object writeLock = new Object();
+    private final Set<Long> changedDuringBuild = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingUpdates = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+    private final ExecutorService updateExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, getClass().getSimpleName() + "-update");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private boolean building;
+    private boolean rebuildRequested;
+    private volatile D data;
+
+    protected abstract boolean isEnabled();
+
+    protected abstract B newBuilder();
+
+    /**
+     * Adds an active product to the index being built; products arrive in ascending id order.
+     */
+    protected abstract void add(B builder, Product product);
+
+    protected abstract D finish(B builder);
+
+    /**
+     * Brings a published index up to date for one product; {@code product} is {@code null} when the
+     * product no longer exists or is inactive.
+     */
+    protected abstract void update(D index, Long productId, Product product);
+
+    /**
+     * Brings a published index up to date for a batch of products; {@code active} holds those that
+     * still exist and are active. Indexes that can apply a batch in one pass override this.
+     */
+    protected void updateAll(D index, List<Long> productIds, Map<Long, Product> active) {
+        for (Long productId : productIds) {
+            update(index, productId, active.get(productId));
+        }
+    }
+
+    protected D current() {
+        return data;
+    }
+
+    public boolean isReady() {
+        return data != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!isEnabled()) {
+            return;
+        }
+        rebuildInBackground();
+    }
+
+    private void rebuildInBackground() {
+        Thread thread = new Thread(this::rebuild, getClass().getSimpleName() + "-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Builds a new index from the database and installs it. A rebuild requested while one is running
+     * is started again once the running one finishes, since that one may have read stale rows.
+     */
+    public void rebuild() {
+        synchronized (writeLock) {
+            if (building) {
+                rebuildRequested = true;
+                return;
+            }
+            building = true;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            B builder = newBuilder();
+            long lastId = 0;
+            List<Product> batch;
+            do {
+                batch = productRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, batchSize));
+                for (Product product : batch) {
+                    add(builder, product);
+                    lastId = product.getId();
+                }
+            } while (batch.size() == batchSize);
+            D built = finish(builder);
+
+            synchronized (writeLock) {
+                if (!changedDuringBuild.isEmpty()) {
+                    List<Long> changed = new ArrayList<>(changedDuringBuild);
+                    updateAll(built, changed, loadActive(changed));
+                }
+                changedDuringBuild.clear();
+                data = built;
+            }
+            logger.info("Built {} in {} ms", getClass().getSimpleName(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            logger.error("Unable to build {}", getClass().getSimpleName(), e);
+        } finally {
+            boolean again;
+            synchronized (writeLock) {
+                building = false;
+                changedDuringBuild.clear();
+                again = rebuildRequested;
+                rebuildRequested = false;
+            }
+            if (again) {
+                rebuild();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isCatalogReload()) {
+            if (isEnabled()) {
+                rebuildInBackground();
+            }
+            return;
+        }
+        pendingUpdates.addAll(event.getProductIds());
+        if (updateScheduled.compareAndSet(false, true)) {
+            updateExecutor.execute(this::applyPendingUpdates);
+        }
+    }
+
+    /**
+     * Applies every product change queued so far. Ids are taken off the queue before the products are
+     * read, so a change committed after the read queues its id again and is applied by the next run.
+     */
+    void applyPendingUpdates() {
+        updateScheduled.set(false);
+        List<Long> productIds = new ArrayList<>();
+        for (Iterator<Long> iterator = pendingUpdates.iterator(); iterator.hasNext(); ) {
+            productIds.add(iterator.next());
+            iterator.remove();
+        }
+        if (productIds.isEmpty()) {
+            return;
+        }
+        try {
+            synchronized (writeLock) {
+                if (building) {
+                    changedDuringBuild.addAll(productIds);
+                }
+                D current = data;
+                if (current == null) {
+                    return;
+                }
+                updateAll(current, productIds, loadActive(productIds));
+            }
+        } catch (RuntimeException e) {
+            // Retried with the next change rather than in a loop while the database is unavailable
+            pendingUpdates.addAll(productIds);
+            logger.error("Unable to update {} for {} products", getClass().getSimpleName(), productIds.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdownUpdates() {
+        updateExecutor.shutdownNow();
+    }
+
+    private Map<Long, Product> loadActive(List<Long> productIds) {
+        return productRepository.findByIdIn(productIds).stream()
+                .filter(product -> Boolean.TRUE.equals(product.getActive()))
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+}
@@ -0,0 +1,227 @@
+package com.rskworld.search;
+
+/**
+ * Product Search Index
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.rskworld.entity.Product;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Inverted index over the name and description of active products. Until the first build finishes
+ * {@link #search} and {@link #match} return {@code null} and callers fall back to the database.
+ */
+@Component
+public class ProductSearchIndex extends ProductIndexSupport<ProductSearchIndex.Builder, ProductSearchIndex.IndexData> {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int MAX_PREFIX_TERMS = 64;
+    private static final double K1 = 1.2;
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns one page of the active products containing every term of the query, best match first.
+     * The last query term also matches as a prefix. Returns {@code null} while the index is not built.
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        Matches matches = match(query);
+        return matches == null ? null : matches.rank(id -> true, offset, limit);
+    }
+
+    /**
+     * Returns every active product containing every term of the query, or {@code null} while the
+     * index is not built.
+     */
+    public Matches match(String query) {
+        IndexData current = current();
+        if (current == null) {
+            return null;
+        }
+        List<String> terms = Tokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return Matches.NONE;
+        }
+
+        List<TermCursor> cursors = new ArrayList<>(terms.size());
+        for (int i = 0; i < terms.size(); i++) {
+            TermCursor cursor = i == terms.size() - 1
+                    ? prefixCursor(current, terms.get(i))
+                    : termCursor(current.postings.get(terms.get(i)));
+            if (cursor == null) {
+                return Matches.NONE;
+            }
+            cursors.add(cursor);
+        }
+        cursors.sort(Comparator.comparingInt(cursor -> cursor.documentFrequency));
+
+        // Leapfrog over the lists from the rarest term: each list skips ahead to the candidate id
+        // and any mismatch moves the candidate to the larger id, so no list is fully decoded.
+        int documentCount = Math.max(1, current.documents.size());
+        TermCursor rarest = cursors.get(0);
+        long[] ids = new long[rarest.documentFrequency];
+        double[] scores = new double[rarest.documentFrequency];
+        int count = 0;
+        long target = Long.MIN_VALUE;
+        candidates:
+        while (rarest.cursor.advance(target)) {
+            long id = rarest.cursor.id();
+            double score = score(rarest.cursor.weight(), rarest.documentFrequency, documentCount);
+            for (int l = 1; l < cursors.size(); l++) {
+                TermCursor other = cursors.get(l);
+                if (!other.cursor.advance(id)) {
+                    break candidates;
+                }
+                if (other.cursor.id() != id) {
+                    target = other.cursor.id();
+                    continue candidates;
+                }
+                score += score(other.cursor.weight(), other.documentFrequency, documentCount);
+            }
+            ids[count] = id;
+            scores[count++] = score;
+            target = id + 1;
+        }
+        return new Matches(ids, scores, count);
+    }
+
+    private static TermCursor termCursor(PostingList list) {
+        return list == null || list.size() == 0 ? null : new TermCursor(list.cursor(), list.size());
+    }
+
+    /**
+     * Matches every term starting with {@code prefix}; several expansions are merged into one list.
+     */
+    private TermCursor prefixCursor(IndexData current, String prefix) {
+        NavigableMap<String, PostingList> matches =
+                current.postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+        List<PostingList> expansions = new ArrayList<>();
+        for (PostingList list : matches.values()) {
+            expansions.add(list);
+            if (expansions.size() == MAX_PREFIX_TERMS) {
+                break;
+            }
+        }
+        if (expansions.size() <= 1) {
+            return termCursor(expansions.isEmpty() ? null : expansions.get(0));
+        }
+        PostingList.Postings merged = PostingList.union(expansions);
+        return new TermCursor(merged.cursor(), merged.size);
+    }
+
+    private static double score(int weight, int documentFrequency, int documentCount) {
+        double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        return idf * weight * (K1 + 1) / (weight + K1);
+    }
+
+    @Override
+    protected Builder newBuilder() {
+        return new Builder();
+    }
+
+    @Override
+    protected void add(Builder builder, Product product) {
+        Map<String, Integer> weights = termWeights(product);
+        weights.forEach((term, weight) ->
+                builder.postings.computeIfAbsent(term, t -> new PostingList.Builder()).add(product.getId(), weight));
+        builder.documents.put(product.getId(), weights.keySet().toArray(new String[0]));
+    }
+
+    @Override
+    protected IndexData finish(Builder builder) {
+        ConcurrentSkipListMap<String, PostingList> postings = new ConcurrentSkipListMap<>();
+        builder.postings.forEach((term, postingsBuilder) -> postings.put(term, postingsBuilder.build()));
+        logger.info("Indexed {} products ({} terms)", builder.documents.size(), postings.size());
+        return new IndexData(postings, new ConcurrentHashMap<>(builder.documents));
+    }
+
+    @Override
+    protected void update(IndexData index, Long productId, Product product) {
+        Map<String, Integer> weights = product == null ? Map.of() : termWeights(product);
+
+        String[] previousTerms = index.documents.remove(productId);
+        if (previousTerms != null) {
+            for (String term : previousTerms) {
+                if (!weights.containsKey(term)) {
+                    index.postings.computeIfPresent(term, (t, list) -> {
+                        PostingList next = list.without(productId);
+                        return next.size() == 0 ? null : next;
+                    });
+                }
+            }
+        }
+        weights.forEach((term, weight) -> index.postings.compute(term,
+                (t, list) -> (list == null ? PostingList.EMPTY : list).with(productId, weight)));
+        if (product != null) {
+            index.documents.put(productId, weights.keySet().toArray(new String[0]));
+        }
+    }
+
+    private static Map<String, Integer> termWeights(Product product) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String term : Tokenizer.tokenize(product.getName())) {
+            weights.merge(term, NAME_WEIGHT, Integer::sum);
+        }
+        for (String term : Tokenizer.tokenize(product.getDescription())) {
+            weights.merge(term, 1, Integer::sum);
+        }
+        return weights;
+    }
+
+    private static final class TermCursor {
+        final PostingList.Cursor cursor;
+        final int documentFrequency;
+
+        TermCursor(PostingList.Cursor cursor, int documentFrequency) {
+            this.cursor = cursor;
+            this.documentFrequency = documentFrequency;
+        }
+    }
+
+    static final class Builder {
+        final Map<String, PostingList.Builder> postings = new HashMap<>();
+        final Map<Long, String[]> documents = new HashMap<>();
+    }
+
+    static final class IndexData {
+        final ConcurrentSkipListMap<String, PostingList> postings;
+        final ConcurrentHashMap<Long, String[]> documents;
+
+        IndexData(ConcurrentSkipListMap<String, PostingList> postings, ConcurrentHashMap<Long, String[]> documents) {
+            this.postings = postings;
+            this.documents = documents;
+        }
+    }
+}
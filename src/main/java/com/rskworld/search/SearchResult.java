@@ -0,0 +1,47 @@
+package com.rskworld.search;
+
+/**
+ * Search Result
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import java.util.List;
+
+/**
+ * One page of ranked product ids and the total number of matching products.
+ */
+public class SearchResult {
+
+    public static final SearchResult EMPTY = new SearchResult(List.of(), 0);
+
+    private final List<Long> productIds;
+    private final long total;
+
+    public SearchResult(List<Long> productIds, long total) {
+        this.productIds = productIds;
+        this.total = total;
+    }
+
+    public List<Long> getProductIds() {
+        return productIds;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+}
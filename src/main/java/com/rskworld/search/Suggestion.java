@@ -0,0 +1,55 @@
+package com.rskworld.search;
+
+/**
+ * Suggestion
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+/**
+ * A type-ahead suggestion: a product name, brand or category.
+ */
+public class Suggestion {
+
+    public enum Type {
+        PRODUCT,
+        BRAND,
+        CATEGORY
+    }
+
+    private final String text;
+    private final Type type;
+    private final int weight;
+
+    public Suggestion(String text, Type type, int weight) {
+        this.text = text;
+        this.type = type;
+        this.weight = weight;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+}
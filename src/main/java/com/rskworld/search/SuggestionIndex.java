@@ -0,0 +1,276 @@
+package com.rskworld.search;
+
+/**
+ * Suggestion Index
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.rskworld.event.ProductChangedEvent;
+import com.rskworld.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Type-ahead suggestions over product names, brands and categories, weighted by the units in stock
+ * across the active products carrying the value: brands and categories rank by their total stock and
+ * product names by their own, so out-of-stock products come last. Equal weights rank alphabetically.
+ *
+ * <p>Stock is a stand-in for popularity, not a measure of it: the schema records no sales, orders or
+ * views, and a well-stocked product may simply be one nobody buys. Once such a signal exists it should
+ * replace the quantity summed per value when a snapshot is built.
+ *
+ * <p>Lookups only read an immutable {@link Snapshot}; product changes mark the index dirty and a
+ * scheduled task builds a new snapshot and swaps it in.
+ */
+@Component
+public class SuggestionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuggestionIndex.class);
+
+    private static final int MAX_WORD_STARTS = 4;
+
+    @Value("${search.suggest.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.suggest.max-results:10}")
+    private int maxResults;
+
+    @Value("${search.index.batch-size:1000}")
+    private int batchSize;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        return snapshot.lookup(key, Math.min(limit, maxResults));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${search.suggest.rebuild-delay:5000}")
+    public void rebuildIfChanged() {
+        if (!enabled || !dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            snapshot = build();
+            logger.debug("Rebuilt suggestion index with {} keys in {} ms", snapshot.keys.length,
+                    System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            logger.error("Unable to rebuild the suggestion index", e);
+        }
+    }
+
+    private Snapshot build() {
+        Map<String, long[]> names = new HashMap<>();
+        Map<String, long[]> brands = new HashMap<>();
+        Map<String, long[]> categories = new HashMap<>();
+        long lastId = 0;
+        List<Object[]> batch;
+        do {
+            batch = productRepository.findActiveSuggestionSources(lastId, PageRequest.of(0, batchSize));
+            for (Object[] row : batch) {
+                lastId = (Long) row[0];
+                int stock = row[4] == null ? 0 : Math.max(0, (Integer) row[4]);
+                addStock(names, (String) row[1], stock);
+                addStock(brands, (String) row[2], stock);
+                addStock(categories, (String) row[3], stock);
+            }
+        } while (batch.size() == batchSize);
+
+        List<Suggestion> suggestions = new ArrayList<>();
+        names.forEach((text, stock) -> suggestions.add(new Suggestion(text, Suggestion.Type.PRODUCT, weight(stock))));
+        brands.forEach((text, stock) -> suggestions.add(new Suggestion(text, Suggestion.Type.BRAND, weight(stock))));
+        categories.forEach((text, stock) ->
+                suggestions.add(new Suggestion(text, Suggestion.Type.CATEGORY, weight(stock))));
+        return Snapshot.build(suggestions, maxResults);
+    }
+
+    private static void addStock(Map<String, long[]> stock, String value, int quantity) {
+        if (value != null && !value.isBlank()) {
+            stock.computeIfAbsent(value.trim(), v -> new long[1])[0] += quantity;
+        }
+    }
+
+    private static int weight(long[] stock) {
+        return (int) Math.min(stock[0], Integer.MAX_VALUE);
+    }
+
+    static String normalize(String text) {
+        return String.join(" ", Tokenizer.tokenize(text));
+    }
+
+    /**
+     * Immutable trie laid out as a sorted array of keys: the keys under a prefix are one contiguous
+     * range. Every suggestion is keyed from each of its first few word starts. Prefixes covering more
+     * than {@link #SCAN_LIMIT} keys keep a precomputed top-k; smaller ranges are ranked on lookup.
+     */
+    static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new String[0], new int[0], new Suggestion[0], Map.of());
+
+        private static final int SCAN_LIMIT = 256;
+
+        final String[] keys;
+        final int[] keySuggestions;
+        final Suggestion[] suggestions;
+        final Map<String, int[]> heavyPrefixes;
+
+        private Snapshot(String[] keys, int[] keySuggestions, Suggestion[] suggestions, Map<String, int[]> heavyPrefixes) {
+            this.keys = keys;
+            this.keySuggestions = keySuggestions;
+            this.suggestions = suggestions;
+            this.heavyPrefixes = heavyPrefixes;
+        }
+
+        static Snapshot build(List<Suggestion> suggestionList, int topK) {
+            Suggestion[] suggestions = suggestionList.toArray(new Suggestion[0]);
+            List<String> keyList = new ArrayList<>();
+            List<Integer> owners = new ArrayList<>();
+            for (int s = 0; s < suggestions.length; s++) {
+                List<String> tokens = Tokenizer.tokenize(suggestions[s].getText());
+                for (int start = 0; start < tokens.size() && start < MAX_WORD_STARTS; start++) {
+                    keyList.add(String.join(" ", tokens.subList(start, tokens.size())));
+                    owners.add(s);
+                }
+            }
+
+            Integer[] order = new Integer[keyList.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing(keyList::get));
+            String[] keys = new String[order.length];
+            int[] keySuggestions = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                keys[i] = keyList.get(order[i]);
+                keySuggestions[i] = owners.get(order[i]);
+            }
+
+            Snapshot snapshot = new Snapshot(keys, keySuggestions, suggestions, new HashMap<>());
+            if (keys.length > 0) {
+                snapshot.buildTopK(0, keys.length, 0, topK);
+            }
+            return new Snapshot(keys, keySuggestions, suggestions, Map.copyOf(snapshot.heavyPrefixes));
+        }
+
+        List<Suggestion> lookup(String prefix, int limit) {
+            int[] top = heavyPrefixes.get(prefix);
+            if (top == null) {
+                int from = lowerBound(prefix);
+                int to = lowerBound(prefix + Character.MAX_VALUE);
+                top = rank(from, to, limit);
+            }
+            int count = Math.min(limit, top.length);
+            Suggestion[] result = new Suggestion[count];
+            for (int i = 0; i < count; i++) {
+                result[i] = suggestions[top[i]];
+            }
+            return List.of(result);
+        }
+
+        /**
+         * Walks the trie over keys[from, to), all sharing their first {@code depth} characters, and
+         * records the top-k of every prefix whose range is too large to rank on lookup.
+         */
+        private int[] buildTopK(int from, int to, int depth, int topK) {
+            if (to - from <= SCAN_LIMIT) {
+                return rank(from, to, topK);
+            }
+            List<int[]> children = new ArrayList<>();
+            int i = from;
+            while (i < to && keys[i].length() == depth) {
+                i++;
+            }
+            if (i > from) {
+                children.add(rank(from, i, topK));
+            }
+            while (i < to) {
+                char c = keys[i].charAt(depth);
+                int j = i;
+                while (j < to && keys[j].charAt(depth) == c) {
+                    j++;
+                }
+                children.add(buildTopK(i, j, depth + 1, topK));
+                i = j;
+            }
+            int[] top = best(children.stream().flatMapToInt(Arrays::stream).toArray(), topK);
+            heavyPrefixes.put(keys[from].substring(0, depth), top);
+            return top;
+        }
+
+        private int[] rank(int from, int to, int limit) {
+            int[] candidates = new int[to - from];
+            for (int i = from; i < to; i++) {
+                candidates[i - from] = keySuggestions[i];
+            }
+            return best(candidates, limit);
+        }
+
+        private int[] best(int[] candidates, int limit) {
+            return Arrays.stream(candidates)
+                    .distinct()
+                    .boxed()
+                    .sorted((a, b) -> suggestions[a].getWeight() != suggestions[b].getWeight()
+                            ? Integer.compare(suggestions[b].getWeight(), suggestions[a].getWeight())
+                            : suggestions[a].getText().compareTo(suggestions[b].getText()))
+                    .limit(limit)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.rskworld.security;
+
+/**
+ * In-Memory Rate Limit Store
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps buckets in a fixed array of stripes instead of a map, so checking a key never allocates or
+ * creates an entry. Each stripe packs the refill timestamp and the remaining tokens into one long
+ * that is updated with a CAS. Keys that hash to the same stripe share a bucket, which can only make
+ * the limit stricter for them, never looser.
+ */
+@Component
+@ConditionalOnProperty(name = "security.login-rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final int TOKEN_BITS = 20;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long TOKEN_SCALE = 1000;
+    private static final int MAX_CAPACITY = (int) (TOKEN_MASK / TOKEN_SCALE);
+
+    private final AtomicLongArray stripes;
+    private final int mask;
+    private final long epoch = System.currentTimeMillis() - 1;
+
+    public InMemoryRateLimitStore(@Value("${security.login-rate-limit.stripes:16384}") int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(2, stripeCount - 1)) << 1;
+        this.stripes = new AtomicLongArray(size);
+        this.mask = size - 1;
+    }
+
+    @Override
+    public long tryAcquire(String bucket, String key, int capacity, long refillPeriodMillis) {
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Rate limit capacity must not exceed " + MAX_CAPACITY);
+        }
+        int index = (int) (hash(bucket, key) & mask);
+        long maxTokens = capacity * TOKEN_SCALE;
+        long now = System.currentTimeMillis() - epoch;
+
+        while (true) {
+            long state = stripes.get(index);
+            long refilledAt = state >>> TOKEN_BITS;
+            long tokens = state & TOKEN_MASK;
+
+            long elapsed = now - refilledAt;
+            if (elapsed >= refillPeriodMillis || state == 0) {
+                tokens = maxTokens;
+            } else if (elapsed > 0) {
+                tokens = Math.min(maxTokens, tokens + elapsed * maxTokens / refillPeriodMillis);
+            }
+
+            if (tokens < TOKEN_SCALE) {
+                return Math.max(1, (TOKEN_SCALE - tokens) * refillPeriodMillis / maxTokens);
+            }
+            long next = (Math.max(now, refilledAt) << TOKEN_BITS) | (tokens - TOKEN_SCALE);
+            if (stripes.compareAndSet(index, state, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * FNV-1a over the lower-cased key, seeded with the bucket name so the same key in different
+     * buckets lands on different stripes.
+     */
+    private static long hash(String bucket, String key) {
+        long hash = 0xcbf29ce484222325L ^ bucket.hashCode();
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= Character.toLowerCase(key.charAt(i));
+            hash *= 0x100000001b3L;
+        }
+        return hash ^ (hash >>> 32);
+    }
+}
@@ -0,0 +1,117 @@
+package com.rskworld.security;
+
+/**
+ * In-Memory Refresh Token Store
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps families in a {@link ConcurrentHashMap} and rotates them with a CAS on the family's current
+ * token id, so concurrent refreshes never take a lock wider than a single map bin. Expiry is driven by
+ * a {@link TimingWheel} instead of periodically sweeping the map.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final ConcurrentHashMap<String, Family> families = new ConcurrentHashMap<>();
+    private final TimingWheel<String> expiryWheel;
+    private final ScheduledExecutorService ticker;
+
+    public InMemoryRefreshTokenStore(@Value("${jwt.refresh-token.expiry-tick:1000}") long tickMillis) {
+        this.expiryWheel = new TimingWheel<>(tickMillis, 4, this::expire);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refresh-token-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ticker.scheduleAtFixedRate(() -> expiryWheel.advance(System.currentTimeMillis()),
+                tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void register(String familyId, String tokenId, long expiresAt) {
+        families.put(familyId, new Family(tokenId, expiresAt));
+        expiryWheel.schedule(familyId, expiresAt);
+    }
+
+    @Override
+    public RotationResult rotate(String familyId, String presentedTokenId, String nextTokenId, long expiresAt) {
+        Family family = families.get(familyId);
+        if (family == null || family.expiresAt <= System.currentTimeMillis()) {
+            return RotationResult.UNKNOWN;
+        }
+        // compareAndSet compares references, so match the presented id by value and only CAS the
+        // instance that was read
+        String current;
+        do {
+            current = family.currentTokenId.get();
+            if (!current.equals(presentedTokenId)) {
+                families.remove(familyId, family);
+                return RotationResult.REUSED;
+            }
+        } while (!family.currentTokenId.compareAndSet(current, nextTokenId));
+        family.expiresAt = expiresAt;
+        expiryWheel.schedule(familyId, expiresAt);
+        return RotationResult.ROTATED;
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        families.remove(familyId);
+    }
+
+    @Override
+    public long liveFamilyCount() {
+        return families.size();
+    }
+
+    /**
+     * Rotation pushes a family's expiry out and schedules it again, so an older wheel entry may fire
+     * for a family that is still live; those are left alone.
+     */
+    private void expire(String familyId) {
+        long now = System.currentTimeMillis();
+        families.computeIfPresent(familyId, (id, family) -> family.expiresAt <= now ? null : family);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    private static final class Family {
+        final AtomicReference<String> currentTokenId;
+        volatile long expiresAt;
+
+        Family(String tokenId, long expiresAt) {
+            this.currentTokenId = new AtomicReference<>(tokenId);
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.rskworld.security;
+
+/**
+ * Issued Token
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+/**
+ * A token this service has just signed, together with the claims it was signed with, so the issuer
+ * never has to verify its own token to learn its id or expiry.
+ */
+public final class IssuedToken {
+
+    private final String token;
+    private final ParsedToken parsedToken;
+
+    IssuedToken(String token, ParsedToken parsedToken) {
+        this.token = token;
+        this.parsedToken = parsedToken;
+    }
+
+    public String getToken() { return token; }
+
+    public ParsedToken getParsedToken() { return parsedToken; }
+}
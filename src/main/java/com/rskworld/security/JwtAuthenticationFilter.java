@@ -19,10 +19,11 @@ package com.rskworld.security;
  * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
  */
 
+import com.rskworld.service.UserService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.security.SignatureException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,12 +32,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
-@Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Autowired
@@ -45,35 +44,48 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         
         final String requestTokenHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwtToken = null;
+        ParsedToken parsedToken = null;
 
         if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-            jwtToken = requestTokenHeader.substring(7);
+            String jwtToken = requestTokenHeader.substring(7);
             try {
-                username = jwtTokenUtil.extractUsername(jwtToken);
-            } catch (IllegalArgumentException e) {
-                logger.error("Unable to get JWT Token", e);
+                parsedToken = jwtTokenUtil.validate(jwtToken);
             } catch (ExpiredJwtException e) {
-                logger.error("JWT Token has expired", e);
+                logger.debug("JWT Token has expired");
+            } catch (JwtException | IllegalArgumentException e) {
+                logger.debug("Unable to get JWT Token: " + e.getMessage());
             }
-        } else {
-            logger.warn("JWT Token does not begin with Bearer String");
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (parsedToken != null && parsedToken.isRefreshToken()) {
+            logger.debug("Refresh tokens cannot authenticate requests");
+            parsedToken = null;
+        }
+
+        if (parsedToken != null && tokenRevocationService.isRevoked(parsedToken.getId())) {
+            logger.debug("JWT Token has been revoked");
+            parsedToken = null;
+        }
+
+        if (parsedToken != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
+                    jwtTokenUtil.isStatelessAuthEnabled() && parsedToken.isSelfContained()
+                            ? authenticateFromClaims(parsedToken)
+                            : authenticateFromUserDetails(parsedToken);
 
-            if (jwtTokenUtil.validateToken(jwtToken, userDetails)) {
-                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities());
+            if (usernamePasswordAuthenticationToken != null) {
                 usernamePasswordAuthenticationToken
                         .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
@@ -81,4 +93,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private UsernamePasswordAuthenticationToken authenticateFromUserDetails(ParsedToken parsedToken) {
+        UserDetails userDetails = this.userDetailsService.loadUserByUsername(parsedToken.getSubject());
+
+        if (parsedToken.getSubject().equals(userDetails.getUsername())) {
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        }
+        return null;
+    }
+
+    /**
+     * Rebuilds the authentication from the verified token claims alone. The only lookup is the
+     * cached security version, which lets updates and deletes of the user revoke issued tokens.
+     */
+    private UsernamePasswordAuthenticationToken authenticateFromClaims(ParsedToken parsedToken) {
+        if (userService.getSecurityVersion(parsedToken.getUserId()) != parsedToken.getSecurityVersion().intValue()) {
+            logger.debug("JWT Token security version is outdated for user " + parsedToken.getSubject());
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(parsedToken.getSubject(), null, parsedToken.getAuthorities());
+    }
 }
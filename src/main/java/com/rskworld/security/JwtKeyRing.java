@@ -0,0 +1,229 @@
+package com.rskworld.security;
+
+/**
+ * JWT Key Ring
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * ES256 signing keys identified by {@code kid}. The active signing key and every key that may still
+ * verify an outstanding token are published together as one immutable snapshot, which is swapped
+ * atomically on rotation so verification never takes a lock.
+ *
+ * <p>Without {@code jwt.signing.key-directory} keys are generated in-process, which only suits a
+ * single node. With it, every {@code <kid>.key} (PKCS#8 PEM) / {@code <kid>.pub} (X.509 PEM) pair in
+ * the directory is loaded, the most recently modified private key signs, and rotation re-reads the
+ * directory so all nodes converge on the same keys.
+ */
+@Component
+public class JwtKeyRing {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    @Value("${jwt.signing.algorithm:HS256}")
+    private String algorithm;
+
+    @Value("${jwt.signing.key-directory:}")
+    private String keyDirectory;
+
+    @Value("${jwt.refresh-token.expiration}")
+    private long maxTokenLifetime;
+
+    private volatile KeySet keySet = KeySet.EMPTY;
+
+    @PostConstruct
+    void init() {
+        if (isEnabled()) {
+            rotate();
+        }
+    }
+
+    public boolean isEnabled() {
+        return "ES256".equalsIgnoreCase(algorithm);
+    }
+
+    public String getActiveKeyId() {
+        return keySet.activeKeyId;
+    }
+
+    public PrivateKey getSigningKey() {
+        return keySet.signingKey;
+    }
+
+    public PublicKey getVerificationKey(String keyId) {
+        VerificationKey key = keySet.verificationKeys.get(keyId);
+        return key == null ? null : key.publicKey;
+    }
+
+    public List<Map<String, Object>> getPublicJwks() {
+        return keySet.publicJwks;
+    }
+
+    @Scheduled(initialDelayString = "${jwt.signing.rotation-interval:86400000}",
+            fixedDelayString = "${jwt.signing.rotation-interval:86400000}")
+    public void rotate() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            keySet = keyDirectory.isEmpty() ? rotateGeneratedKey(keySet) : loadKeyDirectory(Paths.get(keyDirectory));
+            logger.info("JWT signing key is now {}", keySet.activeKeyId);
+        } catch (IOException | GeneralSecurityException e) {
+            if (keySet.signingKey == null) {
+                throw new IllegalStateException("Unable to load JWT signing keys", e);
+            }
+            logger.error("Unable to rotate JWT signing keys, keeping {}", keySet.activeKeyId, e);
+        }
+    }
+
+    private KeySet rotateGeneratedKey(KeySet current) throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        String keyId = UUID.randomUUID().toString();
+
+        long now = System.currentTimeMillis();
+        Map<String, VerificationKey> verificationKeys = new LinkedHashMap<>();
+        verificationKeys.put(keyId, new VerificationKey(keyPair.getPublic(), Long.MAX_VALUE));
+        current.verificationKeys.forEach((id, key) -> {
+            long retiredAt = id.equals(current.activeKeyId) ? now : key.retiredAt;
+            if (now - retiredAt < maxTokenLifetime) {
+                verificationKeys.put(id, new VerificationKey(key.publicKey, retiredAt));
+            }
+        });
+        return new KeySet(keyId, keyPair.getPrivate(), verificationKeys);
+    }
+
+    private KeySet loadKeyDirectory(Path directory) throws IOException, GeneralSecurityException {
+        KeyFactory keyFactory = KeyFactory.getInstance("EC");
+        Map<String, VerificationKey> verificationKeys = new LinkedHashMap<>();
+        List<Path> privateKeyFiles = new ArrayList<>();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".pub")) {
+                    PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(readPem(file)));
+                    verificationKeys.put(name.substring(0, name.length() - 4),
+                            new VerificationKey(publicKey, Long.MAX_VALUE));
+                } else if (name.endsWith(".key")) {
+                    privateKeyFiles.add(file);
+                }
+            }
+        }
+
+        Path activeKeyFile = privateKeyFiles.stream()
+                .max(Comparator.comparingLong(file -> file.toFile().lastModified()))
+                .orElseThrow(() -> new IOException("No signing key (*.key) found in " + directory));
+        String fileName = activeKeyFile.getFileName().toString();
+        String activeKeyId = fileName.substring(0, fileName.length() - 4);
+        if (!verificationKeys.containsKey(activeKeyId)) {
+            throw new IOException("No public key found for signing key " + activeKeyId);
+        }
+
+        PrivateKey signingKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(readPem(activeKeyFile)));
+        return new KeySet(activeKeyId, signingKey, verificationKeys);
+    }
+
+    private static byte[] readPem(Path file) throws IOException {
+        String pem = Files.readString(file)
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(pem);
+    }
+
+    private static Map<String, Object> toJwk(String keyId, PublicKey publicKey) {
+        ECPublicKey ecPublicKey = (ECPublicKey) publicKey;
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("kid", keyId);
+        jwk.put("x", encodeCoordinate(ecPublicKey.getW().getAffineX()));
+        jwk.put("y", encodeCoordinate(ecPublicKey.getW().getAffineY()));
+        return Collections.unmodifiableMap(jwk);
+    }
+
+    private static String encodeCoordinate(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, fixed.length);
+        System.arraycopy(bytes, bytes.length - length, fixed, fixed.length - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private static final class VerificationKey {
+        final PublicKey publicKey;
+        final long retiredAt;
+
+        VerificationKey(PublicKey publicKey, long retiredAt) {
+            this.publicKey = publicKey;
+            this.retiredAt = retiredAt;
+        }
+    }
+
+    private static final class KeySet {
+        static final KeySet EMPTY = new KeySet(null, null, Map.of());
+
+        final String activeKeyId;
+        final PrivateKey signingKey;
+        final Map<String, VerificationKey> verificationKeys;
+        final List<Map<String, Object>> publicJwks;
+
+        KeySet(String activeKeyId, PrivateKey signingKey, Map<String, VerificationKey> verificationKeys) {
+            this.activeKeyId = activeKeyId;
+            this.signingKey = signingKey;
+            this.verificationKeys = Map.copyOf(verificationKeys);
+            this.publicJwks = verificationKeys.entrySet().stream()
+                    .map(entry -> toJwk(entry.getKey(), entry.getValue().publicKey))
+                    .toList();
+        }
+    }
+}
@@ -19,21 +19,32 @@ package com.rskworld.security;
  * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
  */
 
+import com.rskworld.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtTokenUtil {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_AUTHORITIES = "roles";
+    public static final String CLAIM_SECURITY_VERSION = "ver";
+    public static final String CLAIM_FAMILY = "fam";
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -43,8 +54,80 @@ public class JwtTokenUtil {
     @Value("${jwt.refresh-token.expiration}")
     private Long refreshExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    @Value("${jwt.stateless-auth.enabled:false}")
+    private boolean statelessAuthEnabled;
+
+    @Value("${jwt.signing.hmac-grace-period:0}")
+    private long hmacGracePeriod;
+
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private JwtKeyRing jwtKeyRing;
+
+    private SecretKey signingKey;
+
+    private JwtParser jwtParser;
+
+    private long hmacAcceptedUntil;
+
+    /**
+     * Tokens with a {@code kid} header are verified with the matching key of {@link JwtKeyRing};
+     * tokens without one are HMAC tokens signed with {@code jwt.secret}. Once ES256 signing is on,
+     * HMAC tokens are only accepted for {@code jwt.signing.hmac-grace-period} after startup (none by
+     * default), since anyone holding the shared secret could otherwise keep minting them.
+     */
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.hmacAcceptedUntil = jwtKeyRing.isEnabled()
+                ? System.currentTimeMillis() + hmacGracePeriod
+                : Long.MAX_VALUE;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        String keyId = header.getKeyId();
+                        if (keyId != null) {
+                            return jwtKeyRing.getVerificationKey(keyId);
+                        }
+                        if (System.currentTimeMillis() >= hmacAcceptedUntil) {
+                            throw new UnsupportedJwtException("HMAC-signed tokens are no longer accepted");
+                        }
+                        return signingKey;
+                    }
+                })
+                .build();
+    }
+
+    public boolean isStatelessAuthEnabled() {
+        return statelessAuthEnabled;
+    }
+
+    /**
+     * Verifies the signature and expiry of the token exactly once and returns everything needed
+     * to authenticate the request. Tokens verified before are served from {@link VerifiedTokenCache}.
+     *
+     * @throws JwtException if the token is malformed, expired or has an invalid signature
+     * @throws IllegalArgumentException if the token is null or empty
+     */
+    public ParsedToken validate(String token) {
+        ParsedToken parsedToken = verifiedTokenCache.get(token);
+        if (parsedToken == null) {
+            parsedToken = ParsedToken.from(extractAllClaims(token));
+            verifiedTokenCache.put(token, parsedToken);
+        }
+        return parsedToken;
+    }
+
+    /**
+     * Verifies the token like {@link #validate} but neither consults nor fills
+     * {@link VerifiedTokenCache}, for tokens presented once such as refresh tokens, which would only
+     * evict hot access tokens from it.
+     */
+    public ParsedToken verify(String token) {
+        return ParsedToken.from(extractAllClaims(token));
     }
 
     public String extractUsername(String token) {
@@ -61,39 +144,49 @@ public class JwtTokenUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername(), jwtExpiration);
+        if (userDetails instanceof User user) {
+            claims.put(CLAIM_USER_ID, user.getId());
+            claims.put(CLAIM_SECURITY_VERSION, user.getSecurityVersion() == null ? 0 : user.getSecurityVersion());
+            claims.put(CLAIM_AUTHORITIES, user.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .toList());
+        }
+        return createToken(claims, userDetails.getUsername(), jwtExpiration).getToken();
     }
 
-    public String generateRefreshToken(UserDetails userDetails) {
+    public IssuedToken generateRefreshToken(UserDetails userDetails, String familyId) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_FAMILY, familyId);
         return createToken(claims, userDetails.getUsername(), refreshExpiration);
     }
 
-    private String createToken(Map<String, Object> claims, String subject, Long expiration) {
-        return Jwts.builder()
-                .claims(claims)
+    private IssuedToken createToken(Map<String, Object> claimValues, String subject, Long expiration) {
+        long now = System.currentTimeMillis();
+        Claims claims = Jwts.claims()
+                .add(claimValues)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
-                .compact();
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiration))
+                .build();
+        JwtBuilder builder = Jwts.builder().claims(claims);
+
+        if (jwtKeyRing.isEnabled()) {
+            builder.header().keyId(jwtKeyRing.getActiveKeyId()).and()
+                    .signWith(jwtKeyRing.getSigningKey(), Jwts.SIG.ES256);
+        } else {
+            builder.signWith(signingKey);
+        }
+        return new IssuedToken(builder.compact(), ParsedToken.from(claims));
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final ParsedToken parsedToken = validate(token);
+        return (parsedToken.getSubject().equals(userDetails.getUsername()) && !parsedToken.isExpired());
     }
 }
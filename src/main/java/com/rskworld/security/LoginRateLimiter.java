@@ -0,0 +1,96 @@
+package com.rskworld.security;
+
+/**
+ * Login Rate Limiter
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.rskworld.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Throttles login attempts per username and per client address before any password is checked, so
+ * a brute-force attempt is rejected without spending a BCrypt round on it.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final String USERNAME_BUCKET = "user";
+    private static final String CLIENT_BUCKET = "ip";
+
+    @Value("${security.login-rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.login-rate-limit.username-capacity:5}")
+    private int usernameCapacity;
+
+    @Value("${security.login-rate-limit.client-capacity:20}")
+    private int clientCapacity;
+
+    @Value("${security.login-rate-limit.refill-period:60000}")
+    private long refillPeriod;
+
+    @Autowired
+    private RateLimitStore rateLimitStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter throttledUsername;
+    private Counter throttledClient;
+
+    @PostConstruct
+    void registerMetrics() {
+        throttledUsername = Counter.builder("auth.login.throttled")
+                .description("Login attempts rejected by the rate limiter")
+                .tag("bucket", USERNAME_BUCKET)
+                .register(meterRegistry);
+        throttledClient = Counter.builder("auth.login.throttled")
+                .description("Login attempts rejected by the rate limiter")
+                .tag("bucket", CLIENT_BUCKET)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws TooManyRequestsException if either the username or the client address is out of attempts
+     */
+    public void checkLoginAttempt(String username, String clientAddress) {
+        if (!enabled) {
+            return;
+        }
+        long waitMillis = rateLimitStore.tryAcquire(CLIENT_BUCKET, clientAddress, clientCapacity, refillPeriod);
+        if (waitMillis > 0) {
+            throttledClient.increment();
+            throw new TooManyRequestsException("Too many login attempts, please retry later", toSeconds(waitMillis));
+        }
+        waitMillis = rateLimitStore.tryAcquire(USERNAME_BUCKET, username, usernameCapacity, refillPeriod);
+        if (waitMillis > 0) {
+            throttledUsername.increment();
+            throw new TooManyRequestsException("Too many login attempts, please retry later", toSeconds(waitMillis));
+        }
+    }
+
+    private static long toSeconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+}
@@ -0,0 +1,109 @@
+package com.rskworld.security;
+
+/**
+ * Parsed Token
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Result of a single signature verification of a JWT. Everything the authentication filter needs
+ * is extracted once, so the token never has to be parsed again for the same request.
+ */
+public final class ParsedToken {
+
+    private final String id;
+    private final String subject;
+    private final Date expiration;
+    private final Long userId;
+    private final Integer securityVersion;
+    private final String familyId;
+    private final List<GrantedAuthority> authorities;
+
+    private ParsedToken(String id, String subject, Date expiration, Long userId, Integer securityVersion,
+                        String familyId, List<GrantedAuthority> authorities) {
+        this.id = id;
+        this.subject = subject;
+        this.expiration = expiration;
+        this.userId = userId;
+        this.securityVersion = securityVersion;
+        this.familyId = familyId;
+        this.authorities = authorities;
+    }
+
+    static ParsedToken from(Claims claims) {
+        Number userId = claims.get(JwtTokenUtil.CLAIM_USER_ID, Number.class);
+        Number version = claims.get(JwtTokenUtil.CLAIM_SECURITY_VERSION, Number.class);
+        Collection<?> roles = claims.get(JwtTokenUtil.CLAIM_AUTHORITIES, Collection.class);
+
+        List<GrantedAuthority> authorities = roles == null
+                ? Collections.emptyList()
+                : roles.stream()
+                        .map(role -> (GrantedAuthority) RoleAuthority.of(role.toString()))
+                        .toList();
+
+        return new ParsedToken(
+                claims.getId(),
+                claims.getSubject(),
+                claims.getExpiration(),
+                userId == null ? null : userId.longValue(),
+                version == null ? null : version.intValue(),
+                claims.get(JwtTokenUtil.CLAIM_FAMILY, String.class),
+                authorities
+        );
+    }
+
+    public String getId() { return id; }
+
+    public String getSubject() { return subject; }
+
+    public Date getExpiration() { return expiration; }
+
+    public Long getUserId() { return userId; }
+
+    public Integer getSecurityVersion() { return securityVersion; }
+
+    public String getFamilyId() { return familyId; }
+
+    public List<GrantedAuthority> getAuthorities() { return authorities; }
+
+    /**
+     * Whether the token carries the claims needed to authenticate without loading the user.
+     */
+    public boolean isSelfContained() {
+        return userId != null && securityVersion != null && !authorities.isEmpty();
+    }
+
+    /**
+     * Refresh tokens carry their family id; they may only be exchanged at {@code /auth/refresh} and
+     * never authenticate a request.
+     */
+    public boolean isRefreshToken() {
+        return familyId != null;
+    }
+
+    public boolean isExpired() {
+        return expiration != null && expiration.getTime() < System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,36 @@
+package com.rskworld.security;
+
+/**
+ * Rate Limit Store
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+/**
+ * Token buckets used to throttle login attempts. A bucket holds up to {@code capacity} tokens and
+ * refills completely over {@code refillPeriodMillis}; every attempt takes one token. Selected with
+ * {@code security.login-rate-limit.store} ({@code memory} or {@code redis}).
+ */
+public interface RateLimitStore {
+
+    /**
+     * Takes one token from the bucket identified by {@code bucket} and {@code key}.
+     *
+     * @return {@code 0} if a token was taken, otherwise the milliseconds until one becomes available
+     */
+    long tryAcquire(String bucket, String key, int capacity, long refillPeriodMillis);
+}
@@ -0,0 +1,75 @@
+package com.rskworld.security;
+
+/**
+ * Redis Rate Limit Store
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Shares login buckets between nodes. Each bucket is a hash of remaining tokens and last refill
+ * time, updated by a Lua script so the refill and the take are a single atomic step, and expiring
+ * once it would have refilled completely.
+ */
+@Component
+@ConditionalOnProperty(name = "security.login-rate-limit.store", havingValue = "redis")
+public class RedisRateLimitStore implements RateLimitStore {
+
+    private static final String BUCKET_KEY_PREFIX = "login_rate:";
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) "
+                    + "local period = tonumber(ARGV[2]) "
+                    + "local now = tonumber(ARGV[3]) "
+                    + "local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts') "
+                    + "local tokens = tonumber(state[1]) "
+                    + "local ts = tonumber(state[2]) "
+                    + "if not tokens or now - ts >= period then "
+                    + "  tokens = capacity "
+                    + "elseif now > ts then "
+                    + "  tokens = math.min(capacity, tokens + (now - ts) * capacity / period) "
+                    + "end "
+                    + "if tokens < 1 then "
+                    + "  return math.max(1, math.ceil((1 - tokens) * period / capacity)) "
+                    + "end "
+                    + "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens - 1), 'ts', math.max(now, ts or now)) "
+                    + "redis.call('PEXPIRE', KEYS[1], period) "
+                    + "return 0",
+            Long.class);
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public long tryAcquire(String bucket, String key, int capacity, long refillPeriodMillis) {
+        Long waitMillis = stringRedisTemplate.execute(ACQUIRE_SCRIPT,
+                List.of(BUCKET_KEY_PREFIX + bucket + ":" + key.toLowerCase(Locale.ROOT)),
+                String.valueOf(capacity), String.valueOf(refillPeriodMillis),
+                String.valueOf(System.currentTimeMillis()));
+        return waitMillis == null ? 0 : waitMillis;
+    }
+}
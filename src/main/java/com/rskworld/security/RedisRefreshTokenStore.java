@@ -0,0 +1,100 @@
+package com.rskworld.security;
+
+/**
+ * Redis Refresh Token Store
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Shares refresh token families between nodes. Each family is a key holding its current token id
+ * and expiring with the family; rotation is a Lua compare-and-set, so it stays atomic across nodes.
+ * A sorted set scored by expiry keeps the live family count cheap; expired members are pruned on a
+ * schedule so that reading the count never writes.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token.store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String FAMILY_KEY_PREFIX = "refresh_family:";
+    private static final String FAMILIES_KEY = "refresh_families";
+
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) "
+                    + "if not current then return -1 end "
+                    + "if current == ARGV[1] then "
+                    + "  redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+                    + "  redis.call('ZADD', KEYS[2], ARGV[4], ARGV[5]) "
+                    + "  return 1 "
+                    + "end "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "redis.call('ZREM', KEYS[2], ARGV[5]) "
+                    + "return 0",
+            Long.class);
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void register(String familyId, String tokenId, long expiresAt) {
+        long ttl = Math.max(1, expiresAt - System.currentTimeMillis());
+        stringRedisTemplate.opsForValue().set(FAMILY_KEY_PREFIX + familyId, tokenId, Duration.ofMillis(ttl));
+        stringRedisTemplate.opsForZSet().add(FAMILIES_KEY, familyId, expiresAt);
+    }
+
+    @Override
+    public RotationResult rotate(String familyId, String presentedTokenId, String nextTokenId, long expiresAt) {
+        long ttl = Math.max(1, expiresAt - System.currentTimeMillis());
+        Long result = stringRedisTemplate.execute(ROTATE_SCRIPT,
+                List.of(FAMILY_KEY_PREFIX + familyId, FAMILIES_KEY),
+                presentedTokenId, nextTokenId, String.valueOf(ttl), String.valueOf(expiresAt), familyId);
+
+        if (result == null || result < 0) {
+            return RotationResult.UNKNOWN;
+        }
+        return result == 1 ? RotationResult.ROTATED : RotationResult.REUSED;
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        stringRedisTemplate.delete(FAMILY_KEY_PREFIX + familyId);
+        stringRedisTemplate.opsForZSet().remove(FAMILIES_KEY, familyId);
+    }
+
+    @Override
+    public long liveFamilyCount() {
+        Long count = stringRedisTemplate.opsForZSet()
+                .count(FAMILIES_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return count == null ? 0 : count;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.prune-interval:60000}")
+    public void pruneExpiredFamilies() {
+        stringRedisTemplate.opsForZSet()
+                .removeRangeByScore(FAMILIES_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+    }
+}
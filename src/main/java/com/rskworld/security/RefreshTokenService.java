@@ -0,0 +1,106 @@
+package com.rskworld.security;
+
+/**
+ * Refresh Token Service
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Issues single-use refresh tokens. Every token belongs to a family started at login; exchanging a
+ * token rotates the family to a new one, and presenting a token that was already exchanged ends the
+ * whole family so a stolen token stops working for both the thief and the victim.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("jwt.refresh.families.live", refreshTokenStore, RefreshTokenStore::liveFamilyCount)
+                .description("Refresh token families that can still be rotated")
+                .register(meterRegistry);
+    }
+
+    public String issue(UserDetails userDetails) {
+        String familyId = UUID.randomUUID().toString();
+        IssuedToken refreshToken = jwtTokenUtil.generateRefreshToken(userDetails, familyId);
+        ParsedToken parsedToken = refreshToken.getParsedToken();
+        refreshTokenStore.register(familyId, parsedToken.getId(), parsedToken.getExpiration().getTime());
+        return refreshToken.getToken();
+    }
+
+    /**
+     * Exchanges a verified refresh token for the next token of its family.
+     *
+     * @return the new refresh token, or {@code null} if the presented token may not be exchanged
+     */
+    public String rotate(ParsedToken presentedToken, UserDetails userDetails) {
+        String familyId = presentedToken.getFamilyId();
+        if (familyId == null) {
+            return null;
+        }
+
+        IssuedToken nextToken = jwtTokenUtil.generateRefreshToken(userDetails, familyId);
+        ParsedToken nextParsedToken = nextToken.getParsedToken();
+
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate(familyId, presentedToken.getId(),
+                nextParsedToken.getId(), nextParsedToken.getExpiration().getTime());
+
+        if (result == RefreshTokenStore.RotationResult.REUSED) {
+            logger.warn("Refresh token reuse detected for user {}, family {} revoked",
+                    presentedToken.getSubject(), familyId);
+        }
+        return result == RefreshTokenStore.RotationResult.ROTATED ? nextToken.getToken() : null;
+    }
+
+    /**
+     * Ends the family of a refresh token and revokes the token itself.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is not a valid token of this service
+     */
+    public void revoke(String refreshToken) {
+        ParsedToken parsedToken = jwtTokenUtil.verify(refreshToken);
+        if (parsedToken.getFamilyId() != null) {
+            refreshTokenStore.revokeFamily(parsedToken.getFamilyId());
+        }
+        tokenRevocationService.revoke(refreshToken, parsedToken);
+    }
+}
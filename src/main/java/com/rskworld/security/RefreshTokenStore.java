@@ -0,0 +1,46 @@
+package com.rskworld.security;
+
+/**
+ * Refresh Token Store
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+/**
+ * Tracks refresh token families. A family starts at login and only its most recently issued token
+ * may be exchanged; presenting any older token of the family is treated as theft and ends the family.
+ * Selected with {@code jwt.refresh-token.store} ({@code memory} or {@code redis}).
+ */
+public interface RefreshTokenStore {
+
+    enum RotationResult {
+        ROTATED,
+        REUSED,
+        UNKNOWN
+    }
+
+    void register(String familyId, String tokenId, long expiresAt);
+
+    /**
+     * Atomically replaces {@code presentedTokenId} with {@code nextTokenId} if it is still the current
+     * token of the family.
+     */
+    RotationResult rotate(String familyId, String presentedTokenId, String nextTokenId, long expiresAt);
+
+    void revokeFamily(String familyId);
+
+    long liveFamilyCount();
+}
@@ -0,0 +1,105 @@
+package com.rskworld.security;
+
+/**
+ * Role Authority
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interned authority for a role name. There is exactly one instance per role, and each role owns one
+ * bit, so a set of roles can be checked as a {@code long} mask instead of scanning authority strings.
+ * The roles seeded in {@code init.sql} get fixed bits; any other role gets the next free one.
+ */
+public final class RoleAuthority implements GrantedAuthority {
+
+    public static final RoleAuthority ADMIN = new RoleAuthority("ROLE_ADMIN", 0);
+    public static final RoleAuthority USER = new RoleAuthority("ROLE_USER", 1);
+    public static final RoleAuthority MANAGER = new RoleAuthority("ROLE_MANAGER", 2);
+
+    private static final int MAX_ROLES = Long.SIZE;
+    private static final ConcurrentHashMap<String, RoleAuthority> ROLES = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_BIT = new AtomicInteger(3);
+
+    static {
+        ROLES.put(ADMIN.authority, ADMIN);
+        ROLES.put(USER.authority, USER);
+        ROLES.put(MANAGER.authority, MANAGER);
+    }
+
+    private final String authority;
+    private final long bit;
+
+    private RoleAuthority(String authority, int bitIndex) {
+        this.authority = authority;
+        this.bit = 1L << bitIndex;
+    }
+
+    public static RoleAuthority of(String authority) {
+        RoleAuthority role = ROLES.get(authority);
+        if (role != null) {
+            return role;
+        }
+        return ROLES.computeIfAbsent(authority, name -> {
+            int bitIndex = NEXT_BIT.getAndIncrement();
+            if (bitIndex >= MAX_ROLES) {
+                throw new IllegalStateException("Too many distinct roles, cannot assign a bit to " + name);
+            }
+            return new RoleAuthority(name, bitIndex);
+        });
+    }
+
+    public static long mask(Collection<? extends GrantedAuthority> authorities) {
+        long mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            mask |= authority instanceof RoleAuthority role ? role.bit : of(authority.getAuthority()).bit;
+        }
+        return mask;
+    }
+
+    public long bit() {
+        return bit;
+    }
+
+    @Override
+    public String getAuthority() {
+        return authority;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof GrantedAuthority other && authority.equals(other.getAuthority());
+    }
+
+    @Override
+    public int hashCode() {
+        return authority.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return authority;
+    }
+}
@@ -0,0 +1,46 @@
+package com.rskworld.security;
+
+/**
+ * Role Checker
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.rskworld.entity.User;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bitmask based replacement for {@code hasRole(...)} in method security expressions, used as
+ * {@code @PreAuthorize("@roleChecker.hasRole(authentication, 'ADMIN')")}. Unlike the built-in
+ * expression it does not copy the authorities into a set of strings on every check.
+ */
+@Component("roleChecker")
+public class RoleChecker {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    public boolean hasRole(Authentication authentication, String role) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        long required = RoleAuthority.of(role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role).bit();
+        long granted = authentication.getPrincipal() instanceof User user
+                ? user.getRoleMask()
+                : RoleAuthority.mask(authentication.getAuthorities());
+        return (granted & required) != 0;
+    }
+}
@@ -0,0 +1,122 @@
+package com.rskworld.security;
+
+/**
+ * Timing Wheel
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel. Each level has {@code 64} slots and every level's tick spans a whole
+ * rotation of the level below, so scheduling is O(1) regardless of how many entries are pending and
+ * advancing only touches the slots whose time has come. Entries in higher levels cascade down as
+ * their slot is reached.
+ *
+ * <p>{@link #schedule} may be called from any thread, {@link #advance} from a single ticker thread.
+ * An entry racing with the slot being drained may fire one rotation late, so callers must still
+ * check the real deadline of whatever they look up.
+ */
+final class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int levels;
+    private final Queue<Entry<T>>[][] buckets;
+    private final Consumer<T> onExpire;
+
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int levels, Consumer<T> onExpire) {
+        this.tickMillis = tickMillis;
+        this.startMillis = System.currentTimeMillis();
+        this.levels = levels;
+        this.onExpire = onExpire;
+        this.buckets = new Queue[levels][SLOTS];
+        for (int level = 0; level < levels; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                buckets[level][slot] = new ConcurrentLinkedQueue<>();
+            }
+        }
+    }
+
+    void schedule(T item, long deadlineMillis) {
+        long deadlineTick = Math.max(0, (deadlineMillis - startMillis + tickMillis - 1) / tickMillis);
+        place(new Entry<>(item, deadlineTick));
+    }
+
+    /**
+     * Fires every entry whose deadline is at or before {@code nowMillis}.
+     */
+    void advance(long nowMillis) {
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        while (currentTick < targetTick) {
+            long tick = currentTick + 1;
+            currentTick = tick;
+            for (int level = levels - 1; level > 0; level--) {
+                int shift = SLOT_BITS * level;
+                if ((tick & ((1L << shift) - 1)) == 0) {
+                    drain(buckets[level][(int) (tick >>> shift) & SLOT_MASK], tick);
+                }
+            }
+            drain(buckets[0][(int) tick & SLOT_MASK], tick);
+        }
+    }
+
+    private void drain(Queue<Entry<T>> bucket, long tick) {
+        Entry<T> entry;
+        int pending = bucket.size();
+        while (pending-- > 0 && (entry = bucket.poll()) != null) {
+            if (entry.deadlineTick <= tick) {
+                onExpire.accept(entry.item);
+            } else {
+                place(entry);
+            }
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long current = currentTick;
+        long delta = entry.deadlineTick - current;
+        long target = delta <= 0 ? current + 1 : entry.deadlineTick;
+
+        int level = 0;
+        long span = SLOTS;
+        while (delta >= span && level < levels - 1) {
+            level++;
+            span <<= SLOT_BITS;
+        }
+        buckets[level][(int) (target >>> (SLOT_BITS * level)) & SLOT_MASK].add(entry);
+    }
+
+    private static final class Entry<T> {
+        final T item;
+        final long deadlineTick;
+
+        Entry(T item, long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
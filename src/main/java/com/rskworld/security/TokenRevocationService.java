@@ -0,0 +1,206 @@
+package com.rskworld.security;
+
+/**
+ * Token Revocation Service
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Revoked token ids ({@code jti}) live in a Redis sorted set scored by token expiry. Every node keeps
+ * a Bloom filter of that set, so the per-request check is a few bit probes and Redis is only asked on
+ * a possible hit. Nodes learn about new revocations through pub/sub. The filter is rebuilt
+ * periodically so ids of tokens that have expired anyway drop out of it.
+ *
+ * <p>Until the filter has been loaded from Redis once it cannot rule anything out, so every check goes
+ * to Redis (and fails closed when Redis is unreachable) while the load is retried with backoff.
+ */
+@Service
+public class TokenRevocationService implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    static final String REVOKED_TOKENS_KEY = "revoked_tokens";
+    static final String REVOCATION_CHANNEL = "token_revocations";
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 60_000;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Value("${jwt.revocation.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${jwt.revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    @Value("${jwt.revocation.retry-interval:1000}")
+    private long retryInterval;
+
+    private volatile BloomFilter bloomFilter;
+
+    private volatile BloomFilter rebuildingFilter;
+
+    private volatile boolean loaded;
+
+    private int failedLoads;
+
+    private volatile long nextLoadAttemptAt;
+
+    @PostConstruct
+    void init() {
+        bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+        rebuild();
+    }
+
+    /**
+     * Validates and revokes a raw token.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is not a valid token of this service
+     */
+    public boolean revoke(String token) {
+        return revoke(token, jwtTokenUtil.validate(token));
+    }
+
+    public boolean revoke(String token, ParsedToken parsedToken) {
+        String tokenId = parsedToken.getId();
+        if (tokenId == null) {
+            return false;
+        }
+        long expiresAt = parsedToken.getExpiration() == null
+                ? System.currentTimeMillis()
+                : parsedToken.getExpiration().getTime();
+
+        stringRedisTemplate.opsForZSet().add(REVOKED_TOKENS_KEY, tokenId, expiresAt);
+        stringRedisTemplate.convertAndSend(REVOCATION_CHANNEL, tokenId);
+        markRevoked(tokenId);
+        verifiedTokenCache.invalidate(token);
+        return true;
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || (loaded && !bloomFilter.mightContain(tokenId))) {
+            return false;
+        }
+        try {
+            return stringRedisTemplate.opsForZSet().score(REVOKED_TOKENS_KEY, tokenId) != null;
+        } catch (RuntimeException e) {
+            logger.warn("Unable to confirm revocation of token {}, treating it as revoked", tokenId, e);
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        markRevoked(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Retries the initial load, backing off exponentially up to a minute between attempts.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.retry-interval:1000}")
+    public void retryLoad() {
+        if (!loaded && System.currentTimeMillis() >= nextLoadAttemptAt) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Drops expired ids from Redis and reloads the Bloom filter from the remaining ones in batches.
+     * Revocations that arrive while the rebuild runs are written to both filters, and the swap holds
+     * the same lock as {@link #markRevoked}, so none can land only in the filter being replaced.
+     */
+    @Scheduled(initialDelayString = "${jwt.revocation.rebuild-interval:3600000}",
+            fixedDelayString = "${jwt.revocation.rebuild-interval:3600000}")
+    public void rebuild() {
+        BloomFilter freshFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuildingFilter = freshFilter;
+        try {
+            long now = System.currentTimeMillis();
+            stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_TOKENS_KEY, Double.NEGATIVE_INFINITY, now);
+
+            long offset = 0;
+            Set<String> batch;
+            do {
+                batch = stringRedisTemplate.opsForZSet()
+                        .rangeByScore(REVOKED_TOKENS_KEY, now, Double.POSITIVE_INFINITY, offset, REBUILD_BATCH_SIZE);
+                if (batch == null) {
+                    break;
+                }
+                batch.forEach(freshFilter::put);
+                offset += batch.size();
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+
+            synchronized (this) {
+                bloomFilter = freshFilter;
+                rebuildingFilter = null;
+                loaded = true;
+                failedLoads = 0;
+            }
+            logger.debug("Rebuilt token revocation filter with {} entries", offset);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                rebuildingFilter = null;
+                if (!loaded) {
+                    long backoff = Math.min(MAX_RETRY_BACKOFF_MILLIS, retryInterval << Math.min(failedLoads, 16));
+                    failedLoads++;
+                    nextLoadAttemptAt = System.currentTimeMillis() + backoff;
+                }
+            }
+            logger.warn(loaded
+                    ? "Unable to rebuild token revocation filter from Redis, keeping the current one"
+                    : "Unable to load token revocation filter from Redis, checking every token against Redis", e);
+        }
+    }
+
+    private synchronized void markRevoked(String tokenId) {
+        bloomFilter.put(tokenId);
+        BloomFilter next = rebuildingFilter;
+        if (next != null) {
+            next.put(tokenId);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.rskworld.security;
+
+/**
+ * Verified Token Cache
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, direct-mapped cache of tokens whose signature has already been verified.
+ * A slot is chosen by a 64-bit hash of the token string and a hit still compares the full token,
+ * so a hash collision can only cause a miss. Entries never outlive the token's own expiry.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    private final long maxTtlMillis;
+    private final boolean enabled;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${jwt.token-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.token-cache.max-size:16384}") int maxSize,
+                              @Value("${jwt.token-cache.ttl:600000}") long maxTtlMillis,
+                              MeterRegistry meterRegistry) {
+        int capacity = Integer.highestOneBit(Math.max(16, maxSize - 1) << 1);
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.maxTtlMillis = maxTtlMillis;
+        this.enabled = enabled;
+
+        FunctionCounter.builder("jwt.token.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Verified token cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.token.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Verified token cache lookups")
+                .register(meterRegistry);
+    }
+
+    public ParsedToken get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        long hash = hash(token);
+        Entry entry = slots.get(index(hash));
+        if (entry != null && entry.hash == hash && entry.token.equals(token)) {
+            if (entry.expiresAt > System.currentTimeMillis()) {
+                hits.increment();
+                return entry.parsedToken;
+            }
+            slots.compareAndSet(index(hash), entry, null);
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(String token, ParsedToken parsedToken) {
+        if (!enabled) {
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + maxTtlMillis;
+        if (parsedToken.getExpiration() != null) {
+            expiresAt = Math.min(expiresAt, parsedToken.getExpiration().getTime());
+        }
+        long hash = hash(token);
+        slots.set(index(hash), new Entry(token, hash, parsedToken, expiresAt));
+    }
+
+    public void invalidate(String token) {
+        long hash = hash(token);
+        Entry entry = slots.get(index(hash));
+        if (entry != null && entry.hash == hash && entry.token.equals(token)) {
+            slots.compareAndSet(index(hash), entry, null);
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private int index(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * FNV-1a over the UTF-16 code units; tokens are ASCII so this is equivalent to hashing the bytes
+     * without allocating them.
+     */
+    static long hash(String token) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            h ^= token.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    private static final class Entry {
+        final String token;
+        final long hash;
+        final ParsedToken parsedToken;
+        final long expiresAt;
+
+        Entry(String token, long hash, ParsedToken parsedToken, long expiresAt) {
+            this.token = token;
+            this.hash = hash;
+            this.parsedToken = parsedToken;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
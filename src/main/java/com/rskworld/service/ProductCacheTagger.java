@@ -0,0 +1,93 @@
+package com.rskworld.service;
+
+/**
+ * Product Cache Tagger
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.rskworld.cache.CacheTagger;
+import com.rskworld.entity.Product;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Tags list entries of the {@code products} cache by what their contents depend on. Single product
+ * entries (by id and by SKU) carry no tags; a write evicts them by key.
+ */
+@Component
+public class ProductCacheTagger implements CacheTagger {
+
+    static final String CATALOG = "catalog";
+    static final String ACTIVE = "active";
+    static final String LOW_STOCK = "low_stock";
+
+    private static final String SUMMARY_PREFIX = "summary_";
+
+    @Override
+    public String getCacheName() {
+        return "products";
+    }
+
+    @Override
+    public Collection<String> tagsFor(String key) {
+        String listKey = key.startsWith(SUMMARY_PREFIX) ? key.substring(SUMMARY_PREFIX.length()) : key;
+        if (listKey.equals("all")) {
+            return List.of(CATALOG);
+        }
+        if (listKey.equals("active") || listKey.equals("latest") || listKey.startsWith("active_page_")) {
+            return List.of(ACTIVE);
+        }
+        if (listKey.startsWith("low_stock_")) {
+            return List.of(LOW_STOCK);
+        }
+        if (listKey.startsWith("category_")) {
+            return List.of(categoryTag(listKey.substring("category_".length())));
+        }
+        if (listKey.startsWith("brand_")) {
+            return List.of(brandTag(listKey.substring("brand_".length())));
+        }
+        return List.of();
+    }
+
+    /**
+     * Adds the keys and tags of every cached entry that a product in this state can appear in.
+     */
+    static void addDependencies(Product product, Collection<Object> keys, Collection<String> tags) {
+        keys.add(product.getId());
+        if (product.getSku() != null) {
+            keys.add(ProductService.SKU_KEY_PREFIX + product.getSku());
+        }
+        tags.add(CATALOG);
+        tags.add(categoryTag(product.getCategory()));
+        tags.add(brandTag(product.getBrand()));
+        if (Boolean.TRUE.equals(product.getActive())) {
+            tags.add(ACTIVE);
+            tags.add(LOW_STOCK);
+        }
+    }
+
+    private static String categoryTag(String category) {
+        return "category:" + category;
+    }
+
+    private static String brandTag(String brand) {
+        return "brand:" + brand;
+    }
+}
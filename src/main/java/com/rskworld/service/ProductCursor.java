@@ -0,0 +1,73 @@
+package com.rskworld.service;
+
+/**
+ * Product Cursor
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque keyset cursor: the sort it was issued for plus the id and sort key of the last product on
+ * the previous page, Base64 encoded. A cursor only continues the sort it was issued for. The sort
+ * key comes last so that a name containing the separator still decodes.
+ */
+final class ProductCursor {
+
+    private static final String SEPARATOR = "\n";
+
+    private ProductCursor() {
+    }
+
+    static String encode(ProductSort sort, Sort.Direction direction, KeysetScrollPosition position) {
+        Map<String, ?> keys = position.getKeys();
+        String raw = sort.name() + SEPARATOR + direction.name() + SEPARATOR
+                + keys.get("id") + SEPARATOR + keys.get(sort.getProperty());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for another sort
+     */
+    static ScrollPosition decode(String cursor, ProductSort sort, Sort.Direction direction) {
+        if (cursor == null || cursor.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+        String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(SEPARATOR, 4);
+        if (parts.length != 4 || !parts[0].equals(sort.name()) || !parts[1].equals(direction.name())) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            keys.put(sort.getProperty(), sort.parse(parts[3]));
+            keys.put("id", Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        return ScrollPosition.forward(keys);
+    }
+}
@@ -0,0 +1,128 @@
+package com.rskworld.service;
+
+/**
+ * Product Export Service
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Streams active products as newline-delimited JSON straight from a forward-only JDBC cursor, one
+ * fetch-size batch at a time, so memory stays flat regardless of catalog size. Products come in id
+ * order; a client whose download broke off resumes with the last id it received.
+ */
+@Service
+public class ProductExportService {
+
+    private static final String EXPORT_SQL = "SELECT id, name, description, price, quantity, sku, category, brand, "
+            + "image_url, active, created_at, updated_at FROM products WHERE active = true AND id > ? ORDER BY id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * Runs in a read-only transaction because some drivers, PostgreSQL among them, only honour the
+     * fetch size with auto-commit off and would otherwise read the whole result into memory.
+     */
+    @Transactional(readOnly = true)
+    public void exportActiveProducts(Long afterId, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            int[] rows = {0};
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(EXPORT_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                statement.setLong(1, afterId == null ? 0 : afterId);
+                return statement;
+            }, resultSet -> {
+                try {
+                    writeProduct(generator, resultSet);
+                    if (++rows[0] % fetchSize == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void writeProduct(JsonGenerator generator, ResultSet resultSet) throws IOException, SQLException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", resultSet.getLong("id"));
+        generator.writeStringField("name", resultSet.getString("name"));
+        generator.writeStringField("description", resultSet.getString("description"));
+        BigDecimal price = resultSet.getBigDecimal("price");
+        if (price == null) {
+            generator.writeNullField("price");
+        } else {
+            generator.writeNumberField("price", price);
+        }
+        int quantity = resultSet.getInt("quantity");
+        if (resultSet.wasNull()) {
+            generator.writeNullField("quantity");
+        } else {
+            generator.writeNumberField("quantity", quantity);
+        }
+        generator.writeStringField("sku", resultSet.getString("sku"));
+        generator.writeStringField("category", resultSet.getString("category"));
+        generator.writeStringField("brand", resultSet.getString("brand"));
+        generator.writeStringField("imageUrl", resultSet.getString("image_url"));
+        generator.writeBooleanField("active", resultSet.getBoolean("active"));
+        writeTimestamp(generator, "createdAt", resultSet.getTimestamp("created_at"));
+        writeTimestamp(generator, "updatedAt", resultSet.getTimestamp("updated_at"));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeTimestamp(JsonGenerator generator, String field, Timestamp timestamp) throws IOException {
+        if (timestamp == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeStringField(field, timestamp.toLocalDateTime().toString());
+        }
+    }
+}
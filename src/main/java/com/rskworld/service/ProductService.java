@@ -19,129 +19,547 @@ package com.rskworld.service;
  * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
  */
 
+import com.rskworld.cache.TwoLevelCacheManager;
+import com.rskworld.dto.CursorSliceResponse;
+import com.rskworld.dto.FacetedSearchResponse;
+import com.rskworld.dto.ProductLookupResult;
+import com.rskworld.dto.ProductSummary;
+import com.rskworld.dto.ProductUpsertResult;
 import com.rskworld.entity.Product;
+import com.rskworld.event.ProductChangedEvent;
+import com.rskworld.exception.ServiceUnavailableException;
 import com.rskworld.repository.ProductRepository;
+import com.rskworld.search.FacetIndex;
+import com.rskworld.search.FacetResult;
+import com.rskworld.search.PriceIndex;
+import com.rskworld.search.ProductSearchIndex;
+import com.rskworld.search.SearchResult;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ProductService {
 
+    private static final String PRODUCTS_CACHE = "products";
+    static final String SKU_KEY_PREFIX = "sku_";
+
     @Autowired
     private ProductRepository productRepository;
 
-    @Cacheable(value = "products", key = "#id")
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private FacetIndex facetIndex;
+
+    @Autowired
+    private PriceIndex priceIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TwoLevelCacheManager cacheManager;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private RedisCacheConfiguration cacheConfiguration;
+
+    @Autowired
+    private Validator validator;
+
+    @Cacheable(value = PRODUCTS_CACHE, key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public Optional<Product> getProductById(Long id) {
         return productRepository.findById(id);
     }
 
-    @Cacheable(value = "products", key = "#sku")
+    @Cacheable(value = PRODUCTS_CACHE, key = "'" + SKU_KEY_PREFIX + "' + #sku", sync = true)
+    @Transactional(readOnly = true)
     public Optional<Product> getProductBySku(String sku) {
         return productRepository.findBySku(sku);
     }
 
-    @Cacheable(value = "products", key = "'all'")
+    /**
+     * Looks up several products by id, sharing cache entries with {@link #getProductById}. Products
+     * not in this node's in-heap tier are read from Redis with one multi-get and the rest with a
+     * single {@code IN} query.
+     *
+     * @return one result per requested id, in request order
+     */
+    @Transactional(readOnly = true)
+    public List<ProductLookupResult> getProductsByIds(List<Long> ids) {
+        Map<Long, Product> products = getCachedOrLoad(ids, String::valueOf,
+                productRepository::findByIdIn, Product::getId);
+        return ids.stream()
+                .map(id -> ProductLookupResult.forId(id, products.get(id)))
+                .toList();
+    }
+
+    /**
+     * Looks up several products by SKU, sharing cache entries with {@link #getProductBySku}.
+     *
+     * @return one result per requested SKU, in request order
+     */
+    @Transactional(readOnly = true)
+    public List<ProductLookupResult> getProductsBySkus(List<String> skus) {
+        Map<String, Product> products = getCachedOrLoad(skus, sku -> SKU_KEY_PREFIX + sku,
+                productRepository::findBySkuIn, Product::getSku);
+        return skus.stream()
+                .map(sku -> ProductLookupResult.forSku(sku, products.get(sku)))
+                .toList();
+    }
+
+    @Cacheable(value = "products", key = "'all'", sync = true)
+    @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
         return productRepository.findAll();
     }
 
-    @Cacheable(value = "products", key = "'active'")
+    @Cacheable(value = "products", key = "'active'", sync = true)
+    @Transactional(readOnly = true)
     public List<Product> getActiveProducts() {
         return productRepository.findByActiveTrue();
     }
 
-    @Cacheable(value = "products", key = "'active_page_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "products", key = "'summary_active'", sync = true)
+    @Transactional(readOnly = true)
+    public List<ProductSummary> getActiveProductSummaries() {
+        return productRepository.findActiveSummaries();
+    }
+
+    @Cacheable(value = "products", key = "'active_page_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort", sync = true)
+    @Transactional(readOnly = true)
     public Page<Product> getActiveProductsPage(Pageable pageable) {
         return productRepository.findByActiveTrue(pageable);
     }
 
-    @Cacheable(value = "products", key = "'category_' + #category")
+    @Transactional(readOnly = true)
+    public Page<ProductSummary> getActiveProductSummariesPage(Pageable pageable) {
+        return productRepository.findActiveSummaries(pageable);
+    }
+
+    /**
+     * Keyset pagination: seeks past the product identified by {@code cursor} instead of skipping
+     * rows, and runs no count query.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed or belongs to another sort
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<Product> getActiveProductsSlice(ProductSort productSort, Sort.Direction direction,
+                                                               String cursor, int size) {
+        ScrollPosition position = ProductCursor.decode(cursor, productSort, direction);
+        Sort sort = productSort == ProductSort.ID
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, productSort.getProperty()).and(Sort.by(direction, "id"));
+
+        Window<Product> window = productRepository.findByActiveTrue(position, sort, Limit.of(size));
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? ProductCursor.encode(productSort, direction,
+                        (KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+        return new CursorSliceResponse<>(window.getContent(), size, window.hasNext(), nextCursor);
+    }
+
+    @Cacheable(value = "products", key = "'category_' + #category", sync = true)
+    @Transactional(readOnly = true)
     public List<Product> getProductsByCategory(String category) {
         return productRepository.findByCategory(category);
     }
 
-    @Cacheable(value = "products", key = "'brand_' + #brand")
+    @Cacheable(value = "products", key = "'summary_category_' + #category", sync = true)
+    @Transactional(readOnly = true)
+    public List<ProductSummary> getProductSummariesByCategory(String category) {
+        return productRepository.findSummariesByCategory(category);
+    }
+
+    @Cacheable(value = "products", key = "'brand_' + #brand", sync = true)
+    @Transactional(readOnly = true)
     public List<Product> getProductsByBrand(String brand) {
         return productRepository.findByBrand(brand);
     }
 
-    @Cacheable(value = "products", key = "'search_' + #keyword")
-    public List<Product> searchProducts(String keyword) {
-        return productRepository.findActiveProductsByKeyword(keyword);
+    @Cacheable(value = "products", key = "'summary_brand_' + #brand", sync = true)
+    @Transactional(readOnly = true)
+    public List<ProductSummary> getProductSummariesByBrand(String brand) {
+        return productRepository.findSummariesByBrand(brand);
+    }
+
+    /**
+     * Ranked keyword search served from the in-memory index; falls back to a LIKE query while the
+     * index is still being built.
+     */
+    @Transactional(readOnly = true)
+    public Page<Product> searchProducts(String keyword, Pageable pageable) {
+        SearchResult result = productSearchIndex.search(keyword, (int) pageable.getOffset(), pageable.getPageSize());
+        if (result == null) {
+            return productRepository.findActiveProductsByKeyword(keyword, pageable);
+        }
+        return new PageImpl<>(findActiveInOrder(result.getProductIds()), pageable, result.getTotal());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ProductSummary> searchProductSummaries(String keyword, Pageable pageable) {
+        SearchResult result = productSearchIndex.search(keyword, (int) pageable.getOffset(), pageable.getPageSize());
+        if (result == null) {
+            return productRepository.findActiveProductsByKeyword(keyword, pageable).map(ProductService::toSummary);
+        }
+        return new PageImpl<>(findActiveSummariesInOrder(result.getProductIds()), pageable, result.getTotal());
+    }
+
+    @Transactional(readOnly = true)
+    public FacetedSearchResponse facetedSearch(String keyword, String category, String brand,
+                                               BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
+        FacetResult result = facetIndex.search(keyword, category, brand, minPrice, maxPrice,
+                (int) pageable.getOffset(), pageable.getPageSize());
+        if (result == null) {
+            throw new ServiceUnavailableException("Search index is still being built, please retry shortly");
+        }
+        return new FacetedSearchResponse(
+                findActiveInOrder(result.getProducts().getProductIds()),
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                result.getProducts().getTotal(),
+                result.getCategories(),
+                result.getBrands(),
+                result.getPriceRanges()
+        );
     }
 
-    @Cacheable(value = "products", key = "'price_range_' + #minPrice + '_' + #maxPrice")
-    public List<Product> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
-        return productRepository.findActiveProductsByPriceRange(minPrice, maxPrice);
+    /**
+     * Resolves one page of index results through the product cache shared with {@link #getProductById}.
+     */
+    private List<Product> findActiveInOrder(List<Long> ids) {
+        Map<Long, Product> products = getCachedOrLoad(ids, String::valueOf, productRepository::findByIdIn,
+                Product::getId);
+        return ids.stream()
+                .map(products::get)
+                .filter(product -> product != null && Boolean.TRUE.equals(product.getActive()))
+                .toList();
     }
 
-    @Cacheable(value = "products", key = "'low_stock_' + #threshold")
+    private List<ProductSummary> findActiveSummariesInOrder(List<Long> ids) {
+        return inRequestOrder(ids, productRepository.findActiveSummariesByIdIn(ids), ProductSummary::getId);
+    }
+
+    private static <T> List<T> inRequestOrder(List<Long> ids, List<T> found, Function<T, Long> idOf) {
+        Map<Long, T> byId = found.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static ProductSummary toSummary(Product product) {
+        return new ProductSummary(product.getId(), product.getName(), product.getPrice(), product.getSku(),
+                product.getBrand(), product.getCategory());
+    }
+
+    /**
+     * Served from the in-memory price index, cheapest first, one page at a time; falls back to the
+     * database while the index is still being built.
+     */
+    @Transactional(readOnly = true)
+    public Page<Product> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
+        SearchResult result = priceIndex.findIds(minPrice, maxPrice, (int) pageable.getOffset(), pageable.getPageSize());
+        if (result == null) {
+            return productRepository.findActiveProductsByPriceRange(minPrice, maxPrice, pageable);
+        }
+        return new PageImpl<>(findActiveInOrder(result.getProductIds()), pageable, result.getTotal());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ProductSummary> getProductSummariesByPriceRange(BigDecimal minPrice, BigDecimal maxPrice,
+                                                                Pageable pageable) {
+        SearchResult result = priceIndex.findIds(minPrice, maxPrice, (int) pageable.getOffset(), pageable.getPageSize());
+        if (result == null) {
+            return productRepository.findActiveSummariesByPriceRange(minPrice, maxPrice, pageable);
+        }
+        return new PageImpl<>(findActiveSummariesInOrder(result.getProductIds()), pageable, result.getTotal());
+    }
+
+    @Cacheable(value = "products", key = "'low_stock_' + #threshold", sync = true)
+    @Transactional(readOnly = true)
     public List<Product> getLowStockProducts(Integer threshold) {
         return productRepository.findLowStockProducts(threshold);
     }
 
-    @Cacheable(value = "products", key = "'latest'")
+    @Cacheable(value = "products", key = "'summary_low_stock_' + #threshold", sync = true)
+    @Transactional(readOnly = true)
+    public List<ProductSummary> getLowStockProductSummaries(Integer threshold) {
+        return productRepository.findLowStockSummaries(threshold);
+    }
+
+    @Cacheable(value = "products", key = "'latest'", sync = true)
+    @Transactional(readOnly = true)
     public List<Product> getLatestProducts() {
         return productRepository.findLatestActiveProducts();
     }
 
-    @CacheEvict(value = "products", allEntries = true)
+    @Cacheable(value = "products", key = "'summary_latest'", sync = true)
+    @Transactional(readOnly = true)
+    public List<ProductSummary> getLatestProductSummaries() {
+        return productRepository.findLatestActiveSummaries();
+    }
+
     public Product createProduct(Product product) {
         if (productRepository.existsBySku(product.getSku())) {
             throw new RuntimeException("Product with SKU " + product.getSku() + " already exists!");
         }
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        evictDependencies(saved);
+        eventPublisher.publishEvent(new ProductChangedEvent(saved.getId()));
+        return saved;
     }
 
-    @CacheEvict(value = "products", allEntries = true)
     public Product updateProduct(Long id, Product productDetails) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+        Set<Object> evictKeys = new HashSet<>();
+        Set<String> evictTags = new HashSet<>();
+        ProductCacheTagger.addDependencies(product, evictKeys, evictTags);
 
         if (!product.getSku().equals(productDetails.getSku()) && 
             productRepository.existsBySku(productDetails.getSku())) {
             throw new RuntimeException("Product with SKU " + productDetails.getSku() + " already exists!");
         }
 
-        product.setName(productDetails.getName());
-        product.setDescription(productDetails.getDescription());
-        product.setPrice(productDetails.getPrice());
-        product.setQuantity(productDetails.getQuantity());
-        product.setSku(productDetails.getSku());
-        product.setCategory(productDetails.getCategory());
-        product.setBrand(productDetails.getBrand());
-        product.setImageUrl(productDetails.getImageUrl());
-        product.setActive(productDetails.getActive());
+        copyDetails(productDetails, product);
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        ProductCacheTagger.addDependencies(saved, evictKeys, evictTags);
+        cacheManager.evict(PRODUCTS_CACHE, evictKeys, evictTags);
+        eventPublisher.publishEvent(new ProductChangedEvent(id));
+        return saved;
+    }
+
+    /**
+     * Creates or updates products keyed by SKU in a single transaction. Rows that fail validation,
+     * have no SKU or repeat a SKU seen earlier in the batch are rejected without affecting the rest.
+     * Existing SKUs are looked up with one query, writes are sent in JDBC batches and the cached
+     * entries of all changed products are evicted together once the batch commits.
+     *
+     * @return one result per row, in request order
+     */
+    @Transactional
+    public List<ProductUpsertResult> upsertProducts(List<Product> rows) {
+        Set<Object> evictKeys = new HashSet<>();
+        Set<String> evictTags = new HashSet<>();
+        List<ProductUpsertResult> results = upsert(rows, evictKeys, evictTags);
+        cacheManager.evict(PRODUCTS_CACHE, evictKeys, evictTags);
+        List<Long> changedIds = results.stream()
+                .map(ProductUpsertResult::getId)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!changedIds.isEmpty()) {
+            eventPublisher.publishEvent(new ProductChangedEvent(changedIds));
+        }
+        return results;
+    }
+
+    /**
+     * Upserts one batch of a catalog import. Unlike {@link #upsertProducts} it neither evicts the
+     * cache nor publishes changes; the import calls {@link #reloadCatalog} once the whole file is in.
+     */
+    @Transactional
+    public List<ProductUpsertResult> importProducts(List<Product> rows) {
+        return upsert(rows, new HashSet<>(), new HashSet<>());
+    }
+
+    @CacheEvict(value = PRODUCTS_CACHE, allEntries = true)
+    public void reloadCatalog() {
+        eventPublisher.publishEvent(ProductChangedEvent.catalogReload());
+    }
+
+    /**
+     * Adds the cache keys and tags of every product changed by the batch, as it was before and after,
+     * to {@code evictKeys} and {@code evictTags}.
+     */
+    private List<ProductUpsertResult> upsert(List<Product> rows, Set<Object> evictKeys, Set<String> evictTags) {
+        ProductUpsertResult[] results = new ProductUpsertResult[rows.size()];
+        Map<String, Integer> rowBySku = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Product row = rows.get(i);
+            List<String> errors = validateProduct(row);
+            if (errors.isEmpty() && rowBySku.putIfAbsent(row.getSku(), i) != null) {
+                errors = List.of("sku: appears more than once in the batch");
+            }
+            if (!errors.isEmpty()) {
+                results[i] = ProductUpsertResult.rejected(i, row.getSku(), errors);
+            }
+        }
+        if (rowBySku.isEmpty()) {
+            return List.of(results);
+        }
+
+        Map<String, Product> existing = productRepository.findBySkuIn(rowBySku.keySet()).stream()
+                .collect(Collectors.toMap(Product::getSku, Function.identity()));
+        List<Product> products = new ArrayList<>(rowBySku.size());
+        for (Map.Entry<String, Integer> entry : rowBySku.entrySet()) {
+            Product row = rows.get(entry.getValue());
+            Product product = existing.get(entry.getKey());
+            if (product == null) {
+                row.setId(null);
+                product = row;
+            } else {
+                ProductCacheTagger.addDependencies(product, evictKeys, evictTags);
+                copyDetails(row, product);
+            }
+            products.add(product);
+        }
+        productRepository.saveAll(products);
+        products.forEach(product -> ProductCacheTagger.addDependencies(product, evictKeys, evictTags));
+
+        int next = 0;
+        for (Map.Entry<String, Integer> entry : rowBySku.entrySet()) {
+            Product product = products.get(next++);
+            ProductUpsertResult.Status status = existing.containsKey(entry.getKey())
+                    ? ProductUpsertResult.Status.UPDATED : ProductUpsertResult.Status.CREATED;
+            results[entry.getValue()] = new ProductUpsertResult(entry.getValue(), entry.getKey(),
+                    product.getId(), status, null);
+        }
+        return List.of(results);
+    }
+
+    /**
+     * Checks a product against its Bean Validation constraints and the SKU that upserts are keyed by.
+     *
+     * @return one {@code "property: message"} entry per violation, empty when the product is valid
+     */
+    public List<String> validateProduct(Product product) {
+        List<String> errors = validator.validate(product).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (product.getSku() == null || product.getSku().isBlank()) {
+            errors.add("sku: must not be blank");
+        }
+        return errors;
+    }
+
+    private static void copyDetails(Product source, Product target) {
+        target.setName(source.getName());
+        target.setDescription(source.getDescription());
+        target.setPrice(source.getPrice());
+        target.setQuantity(source.getQuantity());
+        target.setSku(source.getSku());
+        target.setCategory(source.getCategory());
+        target.setBrand(source.getBrand());
+        target.setImageUrl(source.getImageUrl());
+        target.setActive(source.getActive());
     }
 
-    @CacheEvict(value = "products", allEntries = true)
     public void deleteProduct(Long id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
         
+        // Evicting the active state's dependencies covers the inactive one as well
+        Set<Object> evictKeys = new HashSet<>();
+        Set<String> evictTags = new HashSet<>();
+        ProductCacheTagger.addDependencies(product, evictKeys, evictTags);
         product.setActive(false);
         productRepository.save(product);
+        cacheManager.evict(PRODUCTS_CACHE, evictKeys, evictTags);
+        eventPublisher.publishEvent(new ProductChangedEvent(id));
     }
 
-    @CacheEvict(value = "products", allEntries = true)
     public void permanentlyDeleteProduct(Long id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
         
         productRepository.delete(product);
+        evictDependencies(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(id));
+    }
+
+    private void evictDependencies(Product product) {
+        Set<Object> evictKeys = new HashSet<>();
+        Set<String> evictTags = new HashSet<>();
+        ProductCacheTagger.addDependencies(product, evictKeys, evictTags);
+        cacheManager.evict(PRODUCTS_CACHE, evictKeys, evictTags);
     }
 
     public boolean existsBySku(String sku) {
         return productRepository.existsBySku(sku);
     }
+
+    private <K> Map<K, Product> getCachedOrLoad(List<K> keys, Function<K, String> cacheKey,
+                                                Function<Collection<K>, List<Product>> loader,
+                                                Function<Product, K> keyOf) {
+        Map<K, Product> products = new HashMap<>();
+        Cache cache = cacheManager.getCache(PRODUCTS_CACHE);
+        List<K> remoteKeys = new ArrayList<>();
+        for (K key : new LinkedHashSet<>(keys)) {
+            if (cacheManager.getLocal(PRODUCTS_CACHE, cacheKey.apply(key)) instanceof Product product) {
+                products.put(key, product);
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return products;
+        }
+
+        String keyPrefix = cacheConfiguration.getKeyPrefixFor(PRODUCTS_CACHE);
+        List<Object> cached = redisTemplate.opsForValue().multiGet(remoteKeys.stream()
+                .map(key -> keyPrefix + cacheKey.apply(key))
+                .toList());
+
+        List<K> misses = new ArrayList<>();
+        for (int i = 0; i < remoteKeys.size(); i++) {
+            K key = remoteKeys.get(i);
+            Object value = cached == null ? null : cached.get(i);
+            if (value instanceof Product product) {
+                products.put(key, product);
+                cacheManager.putLocal(PRODUCTS_CACHE, cacheKey.apply(key), product);
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return products;
+        }
+
+        for (Product product : loader.apply(misses)) {
+            K key = keyOf.apply(product);
+            products.put(key, product);
+            if (cache != null) {
+                cache.put(cacheKey.apply(key), product);
+            }
+        }
+        return products;
+    }
 }
@@ -0,0 +1,67 @@
+package com.rskworld.service;
+
+/**
+ * Product Sort
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Product properties that may be used to sort pages. Each one is backed by an
+ * {@code (active, <column>, id)} index, so keyset pages are a single index seek.
+ */
+public enum ProductSort {
+
+    ID("id", Long::valueOf),
+    NAME("name", s -> s),
+    PRICE("price", BigDecimal::new),
+    CREATED_AT("createdAt", LocalDateTime::parse);
+
+    private final String property;
+    private final Function<String, Object> parser;
+
+    ProductSort(String property, Function<String, Object> parser) {
+        this.property = property;
+        this.parser = parser;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    Object parse(String value) {
+        return parser.apply(value);
+    }
+
+    /**
+     * @return the sort for the given property name, or {@code null} if sorting by it is not allowed
+     */
+    public static ProductSort fromProperty(String property) {
+        for (ProductSort sort : values()) {
+            if (sort.property.equalsIgnoreCase(property)
+                    || sort.name().equals(property.toUpperCase(Locale.ROOT))) {
+                return sort;
+            }
+        }
+        return null;
+    }
+}
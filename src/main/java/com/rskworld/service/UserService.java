@@ -19,6 +19,7 @@ package com.rskworld.service;
  * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
  */
 
+import com.rskworld.cache.TwoLevelCacheManager;
 import com.rskworld.entity.User;
 import com.rskworld.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,43 +32,67 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.Optional;
 
 @Service
 public class UserService implements UserDetailsService {
 
+    /**
+     * Returned by {@link #getSecurityVersion(Long)} for users that no longer exist or are disabled,
+     * so that no token version can ever match it.
+     */
+    public static final int REVOKED_SECURITY_VERSION = -1;
+
+    private static final String USERS_CACHE = "users";
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TwoLevelCacheManager cacheManager;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
     @Override
     public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
         return userRepository.findByUsernameOrEmail(usernameOrEmail, usernameOrEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username or email: " + usernameOrEmail));
     }
 
-    @Cacheable(value = "users", key = "#id")
+    @Cacheable(value = USERS_CACHE, key = "#id", unless = "#result == null")
     public Optional<User> getUserById(Long id) {
         return userRepository.findActiveUserById(id);
     }
 
-    @Cacheable(value = "users", key = "#username")
+    @Cacheable(value = USERS_CACHE, key = "#username", unless = "#result == null")
     public Optional<User> getUserByUsername(String username) {
         return userRepository.findByUsername(username);
     }
 
-    @Cacheable(value = "users", key = "#email")
+    @Cacheable(value = USERS_CACHE, key = "#email", unless = "#result == null")
     public Optional<User> getUserByEmail(String email) {
         return userRepository.findByEmail(email);
     }
 
+    /**
+     * Current security version of an active user. Tokens carry the version they were issued with,
+     * so bumping it in {@link #updateUser} or {@link #deleteUser} revokes every outstanding token.
+     */
+    @Cacheable(value = "user_versions", key = "#id")
+    public Integer getSecurityVersion(Long id) {
+        return userRepository.findActiveSecurityVersionById(id).orElse(REVOKED_SECURITY_VERSION);
+    }
+
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
-    @CacheEvict(value = "users", allEntries = true)
     public User createUser(User user) {
         if (userRepository.existsByUsername(user.getUsername())) {
             throw new RuntimeException("Username is already taken!");
@@ -81,10 +106,31 @@ public class UserService implements UserDetailsService {
         return userRepository.save(user);
     }
 
-    @CacheEvict(value = "users", allEntries = true)
+    /**
+     * Same as {@link #createUser(User)} but hashes the password on the password hashing pool,
+     * so the calling request thread is released while BCrypt runs.
+     */
+    public CompletableFuture<User> registerUser(User user) {
+        if (userRepository.existsByUsername(user.getUsername())) {
+            throw new RuntimeException("Username is already taken!");
+        }
+
+        if (userRepository.existsByEmail(user.getEmail())) {
+            throw new RuntimeException("Email is already taken!");
+        }
+
+        return passwordHashingService.encode(user.getPassword())
+                .thenApply(encodedPassword -> {
+                    user.setPassword(encodedPassword);
+                    return userRepository.save(user);
+                });
+    }
+
+    @CacheEvict(value = "user_versions", key = "#id")
     public User updateUser(Long id, User userDetails) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        List<Object> cachedKeys = cacheKeys(user);
 
         if (!user.getUsername().equals(userDetails.getUsername()) && 
             userRepository.existsByUsername(userDetails.getUsername())) {
@@ -96,6 +142,13 @@ public class UserService implements UserDetailsService {
             throw new RuntimeException("Email is already taken!");
         }
 
+        boolean credentialsChanged = !user.getUsername().equals(userDetails.getUsername())
+                || !Objects.equals(user.getEnabled(), userDetails.getEnabled())
+                || (userDetails.getPassword() != null && !userDetails.getPassword().isEmpty());
+        if (credentialsChanged) {
+            user.incrementSecurityVersion();
+        }
+
         user.setUsername(userDetails.getUsername());
         user.setEmail(userDetails.getEmail());
         user.setFirstName(userDetails.getFirstName());
@@ -107,16 +160,28 @@ public class UserService implements UserDetailsService {
             user.setPassword(passwordEncoder.encode(userDetails.getPassword()));
         }
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        cacheManager.evict(USERS_CACHE, cachedKeys, List.of());
+        return saved;
     }
 
-    @CacheEvict(value = "users", allEntries = true)
+    @CacheEvict(value = "user_versions", key = "#id")
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         
         user.setEnabled(false);
+        user.incrementSecurityVersion();
         userRepository.save(user);
+        cacheManager.evict(USERS_CACHE, cacheKeys(user), List.of());
+    }
+
+    /**
+     * Keys a user may be cached under. Lookups that find no user are not cached, so creating a user
+     * never has anything to evict.
+     */
+    private static List<Object> cacheKeys(User user) {
+        return List.of(user.getId(), user.getUsername(), user.getEmail());
     }
 
     public boolean existsByUsername(String username) {
@@ -0,0 +1,84 @@
+package com.rskworld.cache;
+
+/**
+ * Compressing Redis Serializer Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressingRedisSerializerTest {
+
+    private static final int THRESHOLD = 1024;
+    private static final int MAX_SIZE = 1 << 20;
+
+    private final CompressingRedisSerializer serializer =
+            new CompressingRedisSerializer(new Utf8Serializer(), THRESHOLD, MAX_SIZE, new SimpleMeterRegistry());
+
+    @Test
+    void compressesLargeValuesAndReadsThemBack() {
+        String value = "product ".repeat(1000);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[0]).isEqualTo(CompressingRedisSerializer.LZ4_MARKER);
+        assertThat(bytes.length).isLessThan(value.length());
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    void leavesSmallAndOversizedValuesUncompressed() {
+        String small = "product";
+        String oversized = "x".repeat(MAX_SIZE + 1);
+
+        assertThat(serializer.serialize(small)).isEqualTo(small.getBytes(StandardCharsets.UTF_8));
+        assertThat(serializer.serialize(oversized)).hasSize(MAX_SIZE + 1);
+        assertThat(serializer.deserialize(serializer.serialize(oversized))).isEqualTo(oversized);
+    }
+
+    @Test
+    void rejectsLengthsOutsideTheLimitBeforeDecompressing() {
+        assertThat(serializer.deserialize(compressedHeader(0))).isNull();
+        assertThat(serializer.deserialize(compressedHeader(-1))).isNull();
+        assertThat(serializer.deserialize(compressedHeader(MAX_SIZE + 1))).isNull();
+        assertThat(serializer.deserialize(compressedHeader(Integer.MAX_VALUE))).isNull();
+    }
+
+    private static byte[] compressedHeader(int length) {
+        return ByteBuffer.allocate(16).put(CompressingRedisSerializer.LZ4_MARKER).putInt(length).array();
+    }
+
+    private static final class Utf8Serializer implements RedisSerializer<Object> {
+
+        @Override
+        public byte[] serialize(Object value) {
+            return value == null ? null : value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Object deserialize(byte[] bytes) {
+            return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
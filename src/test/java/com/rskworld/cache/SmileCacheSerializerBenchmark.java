@@ -0,0 +1,104 @@
+package com.rskworld.cache;
+
+/**
+ * Smile Cache Serializer Benchmark
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rskworld.entity.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing and reading a cached list of 1,000 products with {@link SmileCacheSerializer} against the
+ * {@link GenericJackson2JsonRedisSerializer} it replaced. {@link #main} also prints the encoded sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmileCacheSerializerBenchmark {
+
+    private static final int PRODUCTS = 1000;
+
+    private SmileCacheSerializer smile;
+    private GenericJackson2JsonRedisSerializer json;
+    private List<Product> products;
+    private byte[] smileBytes;
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setUp() {
+        smile = new SmileCacheSerializer(new SimpleMeterRegistry()).register(1, Product.class);
+        json = new GenericJackson2JsonRedisSerializer();
+        json.configure(mapper -> mapper.registerModule(new JavaTimeModule()));
+        products = new ArrayList<>(PRODUCTS);
+        for (long id = 1; id <= PRODUCTS; id++) {
+            products.add(SmileCacheSerializerTest.product(id));
+        }
+        smileBytes = smile.serialize(products);
+        jsonBytes = json.serialize(products);
+    }
+
+    @Benchmark
+    public byte[] serializeSmile() {
+        return smile.serialize(products);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return json.serialize(products);
+    }
+
+    @Benchmark
+    public Object deserializeSmile() {
+        return smile.deserialize(smileBytes);
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return json.deserialize(jsonBytes);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        SmileCacheSerializerBenchmark sizes = new SmileCacheSerializerBenchmark();
+        sizes.setUp();
+        System.out.printf("%d products: Smile %d bytes, JSON %d bytes%n", PRODUCTS, sizes.smileBytes.length,
+                sizes.jsonBytes.length);
+        new Runner(new OptionsBuilder().include(SmileCacheSerializerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,147 @@
+package com.rskworld.cache;
+
+/**
+ * Smile Cache Serializer Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.rskworld.entity.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SmileCacheSerializerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SmileCacheSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        serializer = new SmileCacheSerializer(meterRegistry)
+                .register(1, Product.class)
+                .register(4, Integer.class);
+    }
+
+    @Test
+    void writesTheHeaderBeforeTheSmileBody() {
+        byte[] bytes = serializer.serialize(product(7L));
+
+        assertThat(bytes[0]).isEqualTo(SmileCacheSerializer.MAGIC);
+        assertThat(bytes[1]).isEqualTo(SmileCacheSerializer.VERSION);
+        assertThat(bytes[2]).isEqualTo((byte) 0);
+        assertThat(bytes[3]).isEqualTo((byte) 1);
+    }
+
+    @Test
+    void roundTripsASingleValue() {
+        Product product = product(7L);
+
+        assertThat(serializer.deserialize(serializer.serialize(product)))
+                .usingRecursiveComparison()
+                .isEqualTo(product);
+        assertThat(serializer.deserialize(serializer.serialize(42))).isEqualTo(42);
+    }
+
+    @Test
+    void roundTripsListsWithTheElementTypeId() {
+        List<Product> products = List.of(product(1L), product(2L));
+
+        byte[] bytes = serializer.serialize(products);
+
+        assertThat(bytes[2]).isEqualTo((byte) 1);
+        assertThat(bytes[3]).isEqualTo((byte) 1);
+        assertThat(serializer.deserialize(bytes)).asInstanceOf(InstanceOfAssertFactories.LIST)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(products);
+        assertThat(serializer.deserialize(serializer.serialize(List.of()))).isEqualTo(List.of());
+    }
+
+    @Test
+    void roundTripsPagesWithTheirPageable() {
+        Page<Product> page = new PageImpl<>(List.of(product(3L), product(4L)),
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "price").and(Sort.by("id"))), 10);
+
+        @SuppressWarnings("unchecked")
+        Page<Object> read = (Page<Object>) serializer.deserialize(serializer.serialize(page));
+
+        assertThat(read.getContent()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(page.getContent());
+        assertThat(read.getPageable()).isEqualTo(page.getPageable());
+        assertThat(read.getTotalElements()).isEqualTo(10);
+    }
+
+    @Test
+    void roundTripsUnpagedPages() {
+        Page<Integer> page = new PageImpl<>(List.of(1, 2, 3));
+
+        @SuppressWarnings("unchecked")
+        Page<Object> read = (Page<Object>) serializer.deserialize(serializer.serialize(page));
+
+        assertThat(read.getContent()).containsExactly(1, 2, 3);
+        assertThat(read.getPageable().isUnpaged()).isTrue();
+        assertThat(read.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void readsOtherFormatsAndUnknownTypeIdsAsMisses() {
+        byte[] json = new GenericJackson2JsonRedisSerializer().serialize(List.of(1, 2));
+        byte[] unknownType = serializer.serialize(42);
+        unknownType[3] = 99;
+
+        assertThat(serializer.deserialize(json)).isNull();
+        assertThat(serializer.deserialize(unknownType)).isNull();
+        assertThat(serializer.deserialize("plain".getBytes(StandardCharsets.UTF_8))).isNull();
+        assertThat(meterRegistry.counter("cache.serialization.rejected").count()).isEqualTo(3);
+    }
+
+    @Test
+    void refusesUnregisteredAndMixedTypes() {
+        assertThatThrownBy(() -> serializer.serialize("text")).isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> serializer.serialize(List.of(1, product(1L))))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> serializer.register(1, String.class)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> serializer.register(128, String.class)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static Product product(Long id) {
+        Product product = new Product("Product " + id, "Description of product " + id,
+                new BigDecimal("19.99"), 5);
+        product.setId(id);
+        product.setSku("SKU-" + id);
+        product.setBrand("Brand " + (id % 10));
+        product.setCategory("Category " + (id % 5));
+        product.setCreatedAt(LocalDateTime.of(2026, 1, 1, 12, 0));
+        product.setUpdatedAt(LocalDateTime.of(2026, 1, 2, 12, 0));
+        return product;
+    }
+}
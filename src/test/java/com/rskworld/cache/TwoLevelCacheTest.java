@@ -0,0 +1,114 @@
+package com.rskworld.cache;
+
+/**
+ * Two Level Cache Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TwoLevelCacheTest {
+
+    private Cache remote;
+    private TwoLevelCacheManager manager;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = mock(Cache.class);
+        manager = mock(TwoLevelCacheManager.class);
+        cache = new TwoLevelCache("products", null, remote, manager);
+        when(manager.isLoadLockEnabled()).thenReturn(true);
+        when(manager.getLoadLockTimeout()).thenReturn(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void putRecordsTagsBeforeWritingTheValue() {
+        cache.put(42L, "value");
+
+        InOrder order = inOrder(manager, remote);
+        order.verify(manager).recordTags("products", "42");
+        order.verify(remote).put(42L, "value");
+        order.verify(manager).publishInvalidation("products", List.of("42"));
+    }
+
+    @Test
+    void putIfAbsentRecordsTagsBeforeWritingTheValue() {
+        cache.putIfAbsent(42L, "value");
+
+        InOrder order = inOrder(manager, remote);
+        order.verify(manager).recordTags("products", "42");
+        order.verify(remote).putIfAbsent(42L, "value");
+    }
+
+    @Test
+    void lockHolderMarksAnEmptyResult() {
+        when(manager.tryLockLoad("products", "42")).thenReturn("token");
+
+        assertThat((Object) cache.get(42L, () -> null)).isNull();
+
+        verify(manager).unlockEmptyLoad("products", "42", "token");
+        verify(manager, never()).unlockLoad(any(), any(), any());
+    }
+
+    @Test
+    void waiterReturnsAnEmptyResultWithoutLoading() throws Exception {
+        Callable<Object> loader = loader();
+        when(manager.getLoadLockState("products", "42"))
+                .thenReturn(TwoLevelCacheManager.LoadLockState.HELD)
+                .thenReturn(TwoLevelCacheManager.LoadLockState.EMPTY);
+
+        assertThat(cache.get(42L, loader)).isNull();
+
+        verify(loader, never()).call();
+    }
+
+    @Test
+    void waiterLoadsItselfOnceTheLockIsReleasedWithoutAValue() throws Exception {
+        Callable<Object> loader = loader();
+        when(loader.call()).thenReturn("loaded");
+        when(manager.getLoadLockState("products", "42")).thenReturn(TwoLevelCacheManager.LoadLockState.RELEASED);
+
+        long started = System.nanoTime();
+        assertThat(cache.get(42L, loader)).isEqualTo("loaded");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+        verify(loader, times(1)).call();
+        verify(remote).put(42L, "loaded");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Callable<Object> loader() {
+        return mock(Callable.class);
+    }
+}
@@ -0,0 +1,232 @@
+package com.rskworld.controller;
+
+/**
+ * Product Controller Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.rskworld.dto.ProductLookupResult;
+import com.rskworld.dto.ProductSummary;
+import com.rskworld.dto.ProductUpsertResult;
+import com.rskworld.entity.Product;
+import com.rskworld.service.ProductExportService;
+import com.rskworld.service.ProductService;
+import com.rskworld.service.ProductSort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProductControllerTest {
+
+    private ProductService productService;
+    private ProductExportService productExportService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        productService = mock(ProductService.class);
+        productExportService = mock(ProductExportService.class);
+        ProductController controller = new ProductController();
+        ReflectionTestUtils.setField(controller, "productService", productService);
+        ReflectionTestUtils.setField(controller, "productExportService", productExportService);
+        ReflectionTestUtils.setField(controller, "batchMaxSize", 3);
+        ReflectionTestUtils.setField(controller, "bulkMaxSize", 2);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void invalidCursorIsABadRequest() throws Exception {
+        when(productService.getActiveProductsSlice(eq(ProductSort.PRICE), eq(Sort.Direction.DESC), eq("tampered"), anyInt()))
+                .thenThrow(new IllegalArgumentException("Malformed cursor"));
+
+        mockMvc.perform(get("/products/page").param("sortBy", "price").param("sortDir", "desc").param("cursor", "tampered"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Error: Invalid cursor"));
+    }
+
+    @Test
+    void unsupportedSortFieldIsABadRequest() throws Exception {
+        mockMvc.perform(get("/products/page").param("sortBy", "description").param("cursor", ""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportsGzipCompressedNdjsonFromTheGivenId() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":5}\n{\"id\":6}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(productExportService).exportActiveProducts(eq(4L), any(OutputStream.class));
+
+        byte[] body = mockMvc.perform(get("/products/export").param("afterId", "4")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":5}\n{\"id\":6}\n");
+        }
+    }
+
+    @Test
+    void exportsPlainNdjsonWithoutGzip() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(productExportService).exportActiveProducts(any(), any(OutputStream.class));
+
+        mockMvc.perform(get("/products/export"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void summaryFieldsServeTheProjection() throws Exception {
+        when(productService.getActiveProductSummaries()).thenReturn(List.of(
+                new ProductSummary(1L, "Keyboard", new BigDecimal("49.99"), "KB-1", "Acme", "Peripherals")));
+
+        mockMvc.perform(get("/products").param("fields", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].sku").value("KB-1"))
+                .andExpect(jsonPath("$[0].category").value("Peripherals"))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].imageUrl").doesNotExist());
+        verify(productService, never()).getActiveProducts();
+    }
+
+    @Test
+    void fullFieldsAreTheDefault() throws Exception {
+        Product product = new Product("Keyboard", "Mechanical", new BigDecimal("49.99"), 5);
+        when(productService.getActiveProducts()).thenReturn(List.of(product));
+
+        mockMvc.perform(get("/products"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].description").value("Mechanical"));
+        verify(productService, never()).getActiveProductSummaries();
+    }
+
+    @Test
+    void pagesSummariesWithTheRequestedSort() throws Exception {
+        Pageable pageable = PageRequest.of(2, 5, Sort.by(Sort.Direction.DESC, "price"));
+        when(productService.getActiveProductSummariesPage(pageable)).thenReturn(new PageImpl<>(List.of(
+                new ProductSummary(1L, "Keyboard", new BigDecimal("49.99"), "KB-1", "Acme", "Peripherals")), pageable, 11));
+
+        mockMvc.perform(get("/products/page").param("page", "2").param("size", "5")
+                        .param("sortBy", "price").param("sortDir", "desc").param("fields", "SUMMARY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].sku").value("KB-1"))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist());
+    }
+
+    @Test
+    void unknownFieldsValueIsABadRequest() throws Exception {
+        mockMvc.perform(get("/products").param("fields", "everything"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void batchAnswersIdsThenSkusInRequestOrder() throws Exception {
+        Product product = new Product("Keyboard", "", new BigDecimal("49.99"), 5);
+        product.setSku("KB-1");
+        when(productService.getProductsByIds(List.of(9L, 1L))).thenReturn(List.of(
+                ProductLookupResult.forId(9L, null), ProductLookupResult.forId(1L, product)));
+        when(productService.getProductsBySkus(List.of("NOPE"))).thenReturn(List.of(
+                ProductLookupResult.forSku("NOPE", null)));
+
+        mockMvc.perform(post("/products/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[9,1],\"skus\":[\"NOPE\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].id").value(9))
+                .andExpect(jsonPath("$[0].found").value(false))
+                .andExpect(jsonPath("$[0].product").doesNotExist())
+                .andExpect(jsonPath("$[1].id").value(1))
+                .andExpect(jsonPath("$[1].found").value(true))
+                .andExpect(jsonPath("$[1].product.sku").value("KB-1"))
+                .andExpect(jsonPath("$[2].sku").value("NOPE"))
+                .andExpect(jsonPath("$[2].found").value(false));
+    }
+
+    @Test
+    void batchRejectsTooManyKeys() throws Exception {
+        mockMvc.perform(post("/products/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1,2],\"skus\":[\"A\",\"B\"]}"))
+                .andExpect(status().isBadRequest());
+        verify(productService, never()).getProductsByIds(anyList());
+    }
+
+    @Test
+    void bulkReturnsThePerRowOutcomes() throws Exception {
+        when(productService.upsertProducts(anyList())).thenReturn(List.of(
+                new ProductUpsertResult(0, "KB-1", 11L, ProductUpsertResult.Status.CREATED, null),
+                ProductUpsertResult.rejected(1, "MS-1", List.of("name: must not be blank"))));
+
+        mockMvc.perform(post("/products/bulk").contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"sku\":\"KB-1\",\"name\":\"Keyboard\"},{\"sku\":\"MS-1\",\"name\":\"\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].id").value(11))
+                .andExpect(jsonPath("$[0].errors").doesNotExist())
+                .andExpect(jsonPath("$[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$[1].errors[0]").value("name: must not be blank"));
+    }
+
+    @Test
+    void bulkRejectsOversizedBatches() throws Exception {
+        mockMvc.perform(post("/products/bulk").contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"sku\":\"A\"},{\"sku\":\"B\"},{\"sku\":\"C\"}]"))
+                .andExpect(status().isBadRequest());
+        verify(productService, never()).upsertProducts(anyList());
+    }
+}
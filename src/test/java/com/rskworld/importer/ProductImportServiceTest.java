@@ -0,0 +1,192 @@
+package com.rskworld.importer;
+
+/**
+ * Product Import Service Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rskworld.dto.ProductUpsertResult;
+import com.rskworld.entity.Product;
+import com.rskworld.exception.ServiceUnavailableException;
+import com.rskworld.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductImportServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ProductService productService;
+    private ProductImportService productImportService;
+
+    @BeforeEach
+    void setUp() {
+        productService = mock(ProductService.class);
+        when(productService.validateProduct(any(Product.class))).thenAnswer(invocation -> {
+            Product product = invocation.getArgument(0);
+            return product.getName() == null || product.getName().isBlank()
+                    ? List.of("name: must not be blank") : List.of();
+        });
+        when(productService.importProducts(anyList())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            List<ProductUpsertResult> results = new ArrayList<>();
+            for (int i = 0; i < products.size(); i++) {
+                results.add(new ProductUpsertResult(i, products.get(i).getSku(), (long) i,
+                        ProductUpsertResult.Status.CREATED, null));
+            }
+            return results;
+        });
+
+        productImportService = new ProductImportService();
+        ReflectionTestUtils.setField(productImportService, "productService", productService);
+        ReflectionTestUtils.setField(productImportService, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(productImportService, "batchSize", 2);
+        ReflectionTestUtils.setField(productImportService, "queueCapacity", 4);
+        ReflectionTestUtils.setField(productImportService, "maxErrorRows", 10);
+        ReflectionTestUtils.setField(productImportService, "retainedJobs", 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void importsCsvAndReportsRejectedRows() throws Exception {
+        String csv = "sku,name,price,quantity\n"
+                + "A-1,Keyboard,49.99,5\n"
+                + "A-2,,19.99,5\n"
+                + "A-1,Keyboard again,49.99,5\n"
+                + "A-3,Mouse,not-a-price,5\n"
+                + "A-4,Monitor,199.00,2\n";
+
+        ImportJob job = start(csv, ImportFormat.CSV);
+        awaitFinished(job);
+
+        assertThat(job.getState()).isEqualTo(ImportJob.State.COMPLETED);
+        assertThat(job.getRowsRead()).isEqualTo(5);
+        assertThat(job.getCreated()).isEqualTo(2);
+        assertThat(job.getRowsRejected()).isEqualTo(3);
+        assertThat(job.getErrors()).extracting(ImportError::getSku).containsExactlyInAnyOrder("A-2", "A-1", null);
+        assertThat(productImportService.getJob(job.getId())).isSameAs(job);
+        verify(productService, times(1)).reloadCatalog();
+    }
+
+    @Test
+    void slowWritesThrottleParsing() throws Exception {
+        when(productService.importProducts(anyList())).thenAnswer(invocation -> {
+            release.await();
+            List<Product> products = invocation.getArgument(0);
+            List<ProductUpsertResult> results = new ArrayList<>();
+            for (Product product : products) {
+                results.add(new ProductUpsertResult(0, product.getSku(), 1L, ProductUpsertResult.Status.CREATED, null));
+            }
+            return results;
+        });
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            ndjson.append("{\"sku\":\"S-").append(i).append("\",\"name\":\"Product ").append(i).append("\"}\n");
+        }
+
+        ImportJob job = start(ndjson.toString(), ImportFormat.NDJSON);
+        long read = awaitStableRowsRead(job);
+
+        // one batch being written, four queued, one being handed over, the row queue and one parsed row
+        assertThat(read).isLessThanOrEqualTo(2 + 4 * 2 + 2 + 4 + 1);
+        assertThat(job.getState()).isEqualTo(ImportJob.State.RUNNING);
+        assertThatThrownBy(() -> start("", ImportFormat.NDJSON)).isInstanceOf(ServiceUnavailableException.class);
+
+        release.countDown();
+        awaitFinished(job);
+        assertThat(job.getState()).isEqualTo(ImportJob.State.COMPLETED);
+        assertThat(job.getCreated()).isEqualTo(10_000);
+    }
+
+    @Test
+    void aFailingWriteFailsTheJobAndStopsTheOtherStages() throws Exception {
+        when(productService.importProducts(anyList())).thenThrow(new IllegalStateException("database down"));
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            ndjson.append("{\"sku\":\"S-").append(i).append("\",\"name\":\"Product\"}\n");
+        }
+
+        ImportJob job = start(ndjson.toString(), ImportFormat.NDJSON);
+        awaitFinished(job);
+
+        assertThat(job.getState()).isEqualTo(ImportJob.State.FAILED);
+        assertThat(job.getFailure()).contains("write stage failed");
+        awaitCondition(this::startSucceeds);
+    }
+
+    private ImportJob start(String content, ImportFormat format) throws Exception {
+        return productImportService.start(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format);
+    }
+
+    private boolean startSucceeds() {
+        try {
+            awaitFinished(start("", ImportFormat.NDJSON));
+            return true;
+        } catch (ServiceUnavailableException e) {
+            return false;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitFinished(ImportJob job) throws InterruptedException {
+        awaitCondition(() -> job.getState() != ImportJob.State.RUNNING);
+    }
+
+    private static long awaitStableRowsRead(ImportJob job) throws InterruptedException {
+        long previous = -1;
+        long read = job.getRowsRead();
+        while (read != previous) {
+            previous = read;
+            TimeUnit.MILLISECONDS.sleep(200);
+            read = job.getRowsRead();
+        }
+        return read;
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("timed out").isLessThan(deadline);
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+}
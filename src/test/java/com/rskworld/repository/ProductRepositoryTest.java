@@ -0,0 +1,110 @@
+package com.rskworld.repository;
+
+/**
+ * Product Repository Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.rskworld.dto.ProductSummary;
+import com.rskworld.entity.Product;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ProductRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product keyboard;
+    private Product mouse;
+
+    @BeforeEach
+    void setUp() {
+        keyboard = entityManager.persist(product("Keyboard", "KB-1", "49.99", true));
+        mouse = entityManager.persist(product("Mouse", "MS-1", "19.99", true));
+        entityManager.persist(product("Retired", "RT-1", "9.99", false));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void summariesCarryOnlyTheListingColumns() {
+        List<ProductSummary> summaries = productRepository.findActiveSummaries();
+
+        assertThat(summaries).extracting(ProductSummary::getSku).containsExactlyInAnyOrder("KB-1", "MS-1");
+        ProductSummary summary = summaries.stream().filter(s -> s.getSku().equals("KB-1")).findFirst().orElseThrow();
+        assertThat(summary.getId()).isEqualTo(keyboard.getId());
+        assertThat(summary.getName()).isEqualTo("Keyboard");
+        assertThat(summary.getPrice()).isEqualByComparingTo("49.99");
+        assertThat(summary.getBrand()).isEqualTo("Acme");
+        assertThat(summary.getCategory()).isEqualTo("Peripherals");
+    }
+
+    @Test
+    void summariesAreNotManagedEntities() {
+        productRepository.findActiveSummaries();
+        productRepository.findActiveSummaries(PageRequest.of(0, 10));
+
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void pagesSummariesWithTheRequestedSort() {
+        Page<ProductSummary> page = productRepository.findActiveSummaries(PageRequest.of(0, 1, Sort.by("price")));
+
+        assertThat(page.getContent()).extracting(ProductSummary::getSku).containsExactly("MS-1");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void filtersSummariesByCategoryBrandPriceAndId() {
+        assertThat(productRepository.findSummariesByCategory("Peripherals")).hasSize(3);
+        assertThat(productRepository.findSummariesByBrand("Acme")).hasSize(3);
+        assertThat(productRepository.findActiveSummariesByPriceRange(new BigDecimal("10"), new BigDecimal("50"),
+                PageRequest.of(0, 10)).getContent()).extracting(ProductSummary::getSku).containsExactly("MS-1", "KB-1");
+        assertThat(productRepository.findActiveSummariesByIdIn(List.of(mouse.getId())))
+                .extracting(ProductSummary::getSku).containsExactly("MS-1");
+    }
+
+    private static Product product(String name, String sku, String price, boolean active) {
+        Product product = new Product(name, "A long description that listings never need", new BigDecimal(price), 5);
+        product.setSku(sku);
+        product.setBrand("Acme");
+        product.setCategory("Peripherals");
+        product.setImageUrl("https://example.com/" + sku + ".png");
+        product.setActive(active);
+        product.setCreatedAt(LocalDateTime.of(2026, 1, 1, 0, 0));
+        return product;
+    }
+}
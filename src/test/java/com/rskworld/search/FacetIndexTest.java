@@ -0,0 +1,161 @@
+package com.rskworld.search;
+
+/**
+ * Facet Index Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.rskworld.entity.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FacetIndexTest {
+
+    private ProductSearchIndex productSearchIndex;
+    private FacetIndex facetIndex;
+    private FacetIndex.FacetData index;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = mock(ProductSearchIndex.class);
+        facetIndex = new FacetIndex();
+        ReflectionTestUtils.setField(facetIndex, "productSearchIndex", productSearchIndex);
+        ReflectionTestUtils.setField(facetIndex, "priceBoundaries",
+                new BigDecimal[]{new BigDecimal("50"), new BigDecimal("25"), new BigDecimal("100")});
+        facetIndex.init();
+
+        FacetIndex.FacetData builder = facetIndex.newBuilder();
+        facetIndex.add(builder, product(1L, "Books", "Acme", "24.99"));
+        facetIndex.add(builder, product(2L, "Books", "Globex", "25.00"));
+        facetIndex.add(builder, product(3L, "Games", "Acme", "50.00"));
+        facetIndex.add(builder, product(4L, "Games", "Acme", "50.01"));
+        facetIndex.add(builder, product(5L, "Toys", null, "100"));
+        index = facetIndex.finish(builder);
+        ReflectionTestUtils.setField(facetIndex, "data", index);
+    }
+
+    @Test
+    void countsEveryFacetWithoutFilters() {
+        FacetResult result = facetIndex.search(null, null, null, null, null, 0, 10);
+
+        assertThat(result.getProducts().getProductIds()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(result.getCategories()).containsExactly(Map.entry("Books", 2L), Map.entry("Games", 2L),
+                Map.entry("Toys", 1L));
+        assertThat(result.getBrands()).containsExactly(Map.entry("Acme", 3L), Map.entry("Globex", 1L));
+        assertThat(result.getPriceRanges()).containsExactly(Map.entry("0-25", 1L), Map.entry("25-50", 1L),
+                Map.entry("50-100", 2L), Map.entry("100+", 1L));
+    }
+
+    @Test
+    void bucketBoundariesBelongToTheUpperBucket() {
+        // ordinals follow insertion order: 24.99, 25.00, 50.00, 50.01, 100
+        assertThat(index.priceBuckets.get(0).toArray()).containsExactly(0);
+        assertThat(index.priceBuckets.get(1).toArray()).containsExactly(1);
+        assertThat(index.priceBuckets.get(2).toArray()).containsExactly(2, 3);
+        assertThat(index.priceBuckets.get(3).toArray()).containsExactly(4);
+    }
+
+    @Test
+    void priceFiltersIncludeBothBoundsExactly() {
+        FacetResult result = facetIndex.search(null, null, null, new BigDecimal("25.00"), new BigDecimal("50.00"), 0, 10);
+
+        assertThat(result.getProducts().getProductIds()).containsExactly(2L, 3L);
+        assertThat(result.getProducts().getTotal()).isEqualTo(2);
+        assertThat(facetIndex.search(null, null, null, new BigDecimal("50.005"), null, 0, 10)
+                .getProducts().getProductIds()).containsExactly(4L, 5L);
+        assertThat(facetIndex.search(null, null, null, null, new BigDecimal("24.99"), 0, 10)
+                .getProducts().getProductIds()).containsExactly(1L);
+    }
+
+    @Test
+    void combinesFiltersAndCountsEachFacetWithoutItsOwnFilter() {
+        FacetResult result = facetIndex.search(null, "Games", "Acme", null, new BigDecimal("50"), 0, 10);
+
+        assertThat(result.getProducts().getProductIds()).containsExactly(3L);
+        // other categories stay visible so the shopper can switch
+        assertThat(result.getCategories()).containsExactly(Map.entry("Books", 1L), Map.entry("Games", 1L));
+        assertThat(result.getBrands()).containsExactly(Map.entry("Acme", 1L));
+        assertThat(result.getPriceRanges()).containsExactly(Map.entry("50-100", 2L));
+    }
+
+    @Test
+    void unknownValuesMatchNothing() {
+        FacetResult result = facetIndex.search(null, "Garden", null, null, null, 0, 10);
+
+        assertThat(result.getProducts().getProductIds()).isEmpty();
+        assertThat(result.getProducts().getTotal()).isZero();
+    }
+
+    @Test
+    void pagesThroughTheMatches() {
+        FacetResult result = facetIndex.search(null, null, "Acme", null, null, 1, 1);
+
+        assertThat(result.getProducts().getProductIds()).containsExactly(3L);
+        assertThat(result.getProducts().getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void restrictsToKeywordMatchesRankedByScore() {
+        when(productSearchIndex.match("puzzle")).thenReturn(new Matches(new long[]{3, 4, 1}, new double[]{1, 2, 3}, 3));
+
+        FacetResult result = facetIndex.search("puzzle", "Games", null, null, null, 0, 10);
+
+        assertThat(result.getProducts().getProductIds()).containsExactly(4L, 3L);
+        assertThat(result.getCategories()).containsExactly(Map.entry("Games", 2L), Map.entry("Books", 1L));
+    }
+
+    @Test
+    void isNotReadyWhileTheKeywordIndexIsBuilding() {
+        when(productSearchIndex.match("puzzle")).thenReturn(null);
+
+        assertThat(facetIndex.search("puzzle", null, null, null, null, 0, 10)).isNull();
+    }
+
+    @Test
+    void updatesMoveProductsBetweenBitmapsWithoutTouchingPublishedOnes() {
+        var publishedGames = index.categories.get("Games");
+
+        facetIndex.updateAll(index, List.of(3L, 5L, 6L), Map.of(
+                3L, product(3L, "Books", "Acme", "10.00"),
+                6L, product(6L, "Garden", "Initech", "300")));
+
+        assertThat(publishedGames.getCardinality()).isEqualTo(2);
+        FacetResult result = facetIndex.search(null, null, null, null, null, 0, 10);
+        assertThat(result.getProducts().getProductIds()).containsExactly(1L, 2L, 3L, 4L, 6L);
+        assertThat(result.getCategories()).containsExactly(Map.entry("Books", 3L), Map.entry("Games", 1L),
+                Map.entry("Garden", 1L));
+        assertThat(result.getPriceRanges()).containsExactly(Map.entry("0-25", 2L), Map.entry("25-50", 1L),
+                Map.entry("50-100", 1L), Map.entry("100+", 1L));
+    }
+
+    private static Product product(Long id, String category, String brand, String price) {
+        Product product = new Product("Product " + id, "", new BigDecimal(price), 1);
+        product.setId(id);
+        product.setCategory(category);
+        product.setBrand(brand);
+        return product;
+    }
+}
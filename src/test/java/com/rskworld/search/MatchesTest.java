@@ -0,0 +1,69 @@
+package com.rskworld.search;
+
+/**
+ * Matches Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchesTest {
+
+    @Test
+    void pagesMatchAFullSort() {
+        Random random = new Random(7);
+        int count = 500;
+        long[] ids = new long[count];
+        double[] scores = new double[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = i * 2 + 1;
+            scores[i] = random.nextInt(20);
+        }
+        Matches matches = new Matches(ids, scores, count);
+        List<Long> expected = IntStream.range(0, count).boxed()
+                .filter(i -> ids[i] % 3 != 0)
+                .sorted(Comparator.<Integer>comparingDouble(i -> scores[i]).reversed().thenComparingLong(i -> ids[i]))
+                .map(i -> ids[i])
+                .toList();
+
+        for (int offset = 0; offset < expected.size() + 20; offset += 37) {
+            SearchResult page = matches.rank(id -> id % 3 != 0, offset, 25);
+
+            assertThat(page.getTotal()).isEqualTo(expected.size());
+            assertThat(page.getProductIds())
+                    .isEqualTo(expected.subList(Math.min(offset, expected.size()),
+                            Math.min(offset + 25, expected.size())));
+        }
+    }
+
+    @Test
+    void emptyPageStillCountsMatches() {
+        Matches matches = new Matches(new long[]{1, 2, 3}, new double[]{1, 2, 3}, 3);
+
+        SearchResult page = matches.rank(id -> true, 0, 0);
+
+        assertThat(page.getProductIds()).isEmpty();
+        assertThat(page.getTotal()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,113 @@
+package com.rskworld.search;
+
+/**
+ * Posting List Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingListTest {
+
+    @Test
+    void updatesMatchASortedMapModel() {
+        Random random = new Random(42);
+        TreeMap<Long, Integer> model = new TreeMap<>();
+        PostingList.Builder builder = new PostingList.Builder();
+        for (long id = 1; id <= 1000; id += 1 + random.nextInt(3)) {
+            int weight = 1 + random.nextInt(5);
+            builder.add(id, weight);
+            model.put(id, weight);
+        }
+        PostingList list = builder.build();
+
+        for (int i = 0; i < 20_000; i++) {
+            long id = 1 + random.nextInt(1200);
+            if (random.nextInt(3) == 0) {
+                list = list.without(id);
+                model.remove(id);
+            } else {
+                int weight = 1 + random.nextInt(5);
+                list = list.with(id, weight);
+                model.put(id, weight);
+            }
+            if (i % 500 == 0) {
+                assertMatches(list, model);
+            }
+        }
+        assertMatches(list, model);
+    }
+
+    @Test
+    void cursorSkipsAheadAcrossBlocks() {
+        PostingList.Builder builder = new PostingList.Builder();
+        for (long id = 10; id <= 10_000; id += 10) {
+            builder.add(id, (int) (id % 7) + 1);
+        }
+        PostingList list = builder.build().with(5_005, 9).without(5_010);
+        PostingList.Cursor cursor = list.cursor();
+
+        assertThat(cursor.advance(4_999)).isTrue();
+        assertThat(cursor.id()).isEqualTo(5_000);
+        assertThat(cursor.advance(5_001)).isTrue();
+        assertThat(cursor.id()).isEqualTo(5_005);
+        assertThat(cursor.weight()).isEqualTo(9);
+        assertThat(cursor.advance(5_006)).isTrue();
+        assertThat(cursor.id()).isEqualTo(5_020);
+        assertThat(cursor.advance(5_020)).isTrue();
+        assertThat(cursor.id()).isEqualTo(5_020);
+        assertThat(cursor.advance(10_001)).isFalse();
+    }
+
+    @Test
+    void removingTheLastIdReturnsTheEmptyList() {
+        PostingList list = PostingList.EMPTY.with(3, 1).with(7, 2);
+
+        assertThat(list.without(3).without(7)).isSameAs(PostingList.EMPTY);
+        assertThat(list.without(5)).isSameAs(list);
+    }
+
+    @Test
+    void unionKeepsTheHighestWeight() {
+        PostingList first = PostingList.EMPTY.with(1, 1).with(4, 5).with(9, 1);
+        PostingList second = PostingList.EMPTY.with(4, 2).with(6, 3);
+
+        PostingList.Postings union = PostingList.union(List.of(first, second));
+
+        assertThat(union.size).isEqualTo(4);
+        assertThat(union.ids).startsWith(1, 4, 6, 9);
+        assertThat(union.weights).startsWith(1, 5, 3, 1);
+    }
+
+    private static void assertMatches(PostingList list, TreeMap<Long, Integer> model) {
+        assertThat(list.size()).isEqualTo(model.size());
+        PostingList.Postings postings = list.decode();
+        assertThat(postings.size).isEqualTo(model.size());
+        int i = 0;
+        for (Map.Entry<Long, Integer> entry : model.entrySet()) {
+            assertThat(postings.ids[i]).isEqualTo(entry.getKey());
+            assertThat(postings.weights[i++]).isEqualTo(entry.getValue());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.rskworld.search;
+
+/**
+ * Price Index Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.rskworld.entity.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceIndexTest {
+
+    private PriceIndex priceIndex;
+    private PriceIndex.IndexData index;
+
+    @BeforeEach
+    void setUp() {
+        priceIndex = new PriceIndex();
+        PriceIndex.Builder builder = priceIndex.newBuilder();
+        priceIndex.add(builder, product(1L, "10.00"));
+        priceIndex.add(builder, product(2L, "20.00"));
+        priceIndex.add(builder, product(3L, "20.00"));
+        priceIndex.add(builder, product(4L, "40.00"));
+        index = priceIndex.finish(builder);
+        ReflectionTestUtils.setField(priceIndex, "data", index);
+    }
+
+    @Test
+    void pagesThroughARangeCheapestFirst() {
+        SearchResult firstPage = priceIndex.findIds(new BigDecimal("10"), new BigDecimal("40"), 0, 3);
+        SearchResult secondPage = priceIndex.findIds(new BigDecimal("10"), new BigDecimal("40"), 3, 3);
+
+        assertThat(firstPage.getProductIds()).containsExactly(1L, 2L, 3L);
+        assertThat(firstPage.getTotal()).isEqualTo(4);
+        assertThat(secondPage.getProductIds()).containsExactly(4L);
+        assertThat(priceIndex.findIds(new BigDecimal("10"), new BigDecimal("40"), 10, 3).getProductIds()).isEmpty();
+    }
+
+    @Test
+    void appliesABatchOfChangesInOneMerge() {
+        priceIndex.updateAll(index, List.of(1L, 3L, 4L, 5L), Map.of(
+                1L, product(1L, "35.00"),
+                3L, product(3L, "5.00"),
+                5L, product(5L, "20.00")));
+
+        SearchResult all = priceIndex.findIds(BigDecimal.ZERO, new BigDecimal("100"), 0, 10);
+        assertThat(all.getProductIds()).containsExactly(3L, 2L, 5L, 1L);
+        assertThat(all.getTotal()).isEqualTo(4);
+    }
+
+    @Test
+    void ignoresUnchangedPrices() {
+        priceIndex.update(index, 2L, product(2L, "20.004"));
+
+        assertThat(priceIndex.findIds(new BigDecimal("20"), new BigDecimal("20"), 0, 10).getProductIds())
+                .containsExactly(2L, 3L);
+    }
+
+    private static Product product(Long id, String price) {
+        Product product = new Product("Product " + id, "", new BigDecimal(price), 1);
+        product.setId(id);
+        return product;
+    }
+}
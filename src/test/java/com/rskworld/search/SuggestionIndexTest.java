@@ -0,0 +1,53 @@
+package com.rskworld.search;
+
+/**
+ * Suggestion Index Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionIndexTest {
+
+    @Test
+    void ranksByStockBeforeText() {
+        SuggestionIndex.Snapshot snapshot = SuggestionIndex.Snapshot.build(List.of(
+                new Suggestion("Budget Laptop", Suggestion.Type.PRODUCT, 0),
+                new Suggestion("Gaming Laptop", Suggestion.Type.PRODUCT, 35),
+                new Suggestion("Laptops", Suggestion.Type.CATEGORY, 420),
+                new Suggestion("Business Laptop", Suggestion.Type.PRODUCT, 35)), 10);
+
+        assertThat(snapshot.lookup("lap", 10)).extracting(Suggestion::getText)
+                .containsExactly("Laptops", "Business Laptop", "Gaming Laptop", "Budget Laptop");
+    }
+
+    @Test
+    void matchesTheStartOfLaterWords() {
+        SuggestionIndex.Snapshot snapshot = SuggestionIndex.Snapshot.build(List.of(
+                new Suggestion("Wireless Gaming Mouse", Suggestion.Type.PRODUCT, 5),
+                new Suggestion("Gaming", Suggestion.Type.CATEGORY, 50)), 10);
+
+        assertThat(snapshot.lookup("gam", 1)).extracting(Suggestion::getText).containsExactly("Gaming");
+        assertThat(snapshot.lookup("mou", 10)).extracting(Suggestion::getText)
+                .containsExactly("Wireless Gaming Mouse");
+        assertThat(snapshot.lookup("xyz", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,127 @@
+package com.rskworld.security;
+
+/**
+ * Health Probe Benchmark
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import jakarta.servlet.Filter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.web.DefaultSecurityFilterChain;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.ExceptionTranslationFilter;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
+import org.springframework.security.web.header.HeaderWriterFilter;
+import org.springframework.security.web.header.writers.XContentTypeOptionsHeaderWriter;
+import org.springframework.security.web.savedrequest.RequestCacheAwareFilter;
+import org.springframework.security.web.servletapi.SecurityContextHolderAwareRequestFilter;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the security filters in front of a health probe: the filter-free probe chain against
+ * the default filters of the authenticated chain that probes used to go through.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HealthProbeBenchmark {
+
+    private FilterChainProxy probeChain;
+    private FilterChainProxy authenticatedChain;
+
+    @Setup
+    public void setUp() throws Exception {
+        SecurityFilterChain authenticated = new DefaultSecurityFilterChain(AnyRequestMatcher.INSTANCE,
+                authenticatedChainFilters());
+        probeChain = filterChainProxy(
+                new DefaultSecurityFilterChain(SecurityConfig.probeEndpointMatcher()), authenticated);
+        authenticatedChain = filterChainProxy(authenticated);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse probeThroughProbeChain() throws Exception {
+        return probe(probeChain);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse probeThroughAuthenticatedChain() throws Exception {
+        return probe(authenticatedChain);
+    }
+
+    private static MockHttpServletResponse probe(FilterChainProxy filterChainProxy) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+        request.setServletPath("/actuator/health");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filterChainProxy.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static FilterChainProxy filterChainProxy(SecurityFilterChain... chains) throws Exception {
+        FilterChainProxy filterChainProxy = new FilterChainProxy(List.of(chains));
+        filterChainProxy.afterPropertiesSet();
+        return filterChainProxy;
+    }
+
+    /**
+     * The filters a request without credentials passes through in the authenticated chain. The JWT
+     * filter returns straight away without an Authorization header, so it is left out.
+     */
+    private static List<Filter> authenticatedChainFilters() throws Exception {
+        SecurityContextHolderAwareRequestFilter servletApiFilter = new SecurityContextHolderAwareRequestFilter();
+        servletApiFilter.afterPropertiesSet();
+        return List.of(
+                new SecurityContextHolderFilter(new RequestAttributeSecurityContextRepository()),
+                new HeaderWriterFilter(List.of(new XContentTypeOptionsHeaderWriter())),
+                new RequestCacheAwareFilter(),
+                servletApiFilter,
+                new AnonymousAuthenticationFilter("benchmark"),
+                new ExceptionTranslationFilter(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)),
+                new AuthorizationFilter((authentication, request) -> new AuthorizationDecision(true)));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(HealthProbeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
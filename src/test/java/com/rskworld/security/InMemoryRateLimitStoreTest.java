@@ -0,0 +1,136 @@
+package com.rskworld.security;
+
+/**
+ * In-Memory Rate Limit Store Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimitStoreTest {
+
+    private static final long ONE_DAY = TimeUnit.DAYS.toMillis(1);
+    private static final int THREADS = 16;
+
+    @Test
+    void grantsExactlyCapacityThenReportsWait() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(1024);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(store.tryAcquire("user", "alice", 5, ONE_DAY)).isZero();
+        }
+        assertThat(store.tryAcquire("user", "alice", 5, ONE_DAY)).isPositive();
+    }
+
+    @Test
+    void keysAreCaseInsensitive() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(1024);
+
+        assertThat(store.tryAcquire("user", "Alice", 1, ONE_DAY)).isZero();
+        assertThat(store.tryAcquire("user", "alice", 1, ONE_DAY)).isPositive();
+    }
+
+    @Test
+    void refillsAfterThePeriod() throws InterruptedException {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(1024);
+
+        assertThat(store.tryAcquire("ip", "10.0.0.1", 1, 50)).isZero();
+        assertThat(store.tryAcquire("ip", "10.0.0.1", 1, 50)).isPositive();
+        Thread.sleep(60);
+        assertThat(store.tryAcquire("ip", "10.0.0.1", 1, 50)).isZero();
+    }
+
+    /**
+     * Many threads hammering one bucket must be granted exactly its capacity: a lost CAS update would
+     * grant more, a spurious failure fewer.
+     */
+    @Test
+    void concurrentAcquiresNeverLoseUpdates() throws Exception {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(1024);
+        int capacity = 1000;
+        int attemptsPerThread = 500;
+
+        int granted = hammer(() -> store.tryAcquire("ip", "203.0.113.7", capacity, ONE_DAY) == 0 ? 1 : 0,
+                attemptsPerThread);
+
+        assertThat(granted).isEqualTo(capacity);
+    }
+
+    @Test
+    void concurrentAcquiresOnManyKeysStayWithinTheirBuckets() throws Exception {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(1 << 16);
+        int capacity = 10;
+        int keys = 64;
+
+        int granted = hammer(() -> {
+            int grantedKeys = 0;
+            for (int key = 0; key < keys; key++) {
+                if (store.tryAcquire("user", "user-" + key, capacity, ONE_DAY) == 0) {
+                    grantedKeys++;
+                }
+            }
+            return grantedKeys;
+        }, 50);
+
+        // Keys sharing a stripe share a bucket, so collisions can only lower the total
+        assertThat(granted).isLessThanOrEqualTo(capacity * keys);
+        for (int key = 0; key < keys; key++) {
+            assertThat(store.tryAcquire("user", "user-" + key, capacity, ONE_DAY)).isPositive();
+        }
+    }
+
+    private static int hammer(Attempt attempt, int attemptsPerThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        granted += attempt.run();
+                    }
+                    return granted;
+                }));
+            }
+            start.countDown();
+            int granted = 0;
+            for (Future<Integer> result : results) {
+                granted += result.get(30, TimeUnit.SECONDS);
+            }
+            return granted;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Attempt {
+        int run();
+    }
+}
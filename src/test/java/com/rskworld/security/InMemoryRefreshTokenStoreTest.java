@@ -0,0 +1,134 @@
+package com.rskworld.security;
+
+/**
+ * In Memory Refresh Token Store Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.rskworld.security.RefreshTokenStore.RotationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    private InMemoryRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRefreshTokenStore(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    void rotatesWhenTheCurrentTokenIsPresented() {
+        long expiresAt = System.currentTimeMillis() + HOUR;
+        store.register("family", "jti-1", expiresAt);
+
+        // ids parsed from a token are never the instance that was registered
+        assertThat(store.rotate("family", new String("jti-1"), "jti-2", expiresAt)).isEqualTo(RotationResult.ROTATED);
+        assertThat(store.rotate("family", new String("jti-2"), "jti-3", expiresAt)).isEqualTo(RotationResult.ROTATED);
+        assertThat(store.liveFamilyCount()).isEqualTo(1);
+    }
+
+    @Test
+    void presentingAnOlderTokenRevokesTheFamily() {
+        long expiresAt = System.currentTimeMillis() + HOUR;
+        store.register("family", "jti-1", expiresAt);
+        store.rotate("family", "jti-1", "jti-2", expiresAt);
+
+        assertThat(store.rotate("family", "jti-1", "jti-3", expiresAt)).isEqualTo(RotationResult.REUSED);
+
+        assertThat(store.liveFamilyCount()).isZero();
+        assertThat(store.rotate("family", "jti-2", "jti-4", expiresAt)).isEqualTo(RotationResult.UNKNOWN);
+    }
+
+    @Test
+    void onlyOneConcurrentRefreshOfTheSameTokenWins() throws Exception {
+        long expiresAt = System.currentTimeMillis() + HOUR;
+        store.register("family", "jti-1", expiresAt);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RotationResult>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            String next = "jti-next-" + i;
+            results.add(executor.submit(() -> {
+                start.await();
+                return store.rotate("family", new String("jti-1"), next, expiresAt);
+            }));
+        }
+        start.countDown();
+
+        List<RotationResult> outcomes = new ArrayList<>();
+        for (Future<RotationResult> result : results) {
+            outcomes.add(result.get());
+        }
+        executor.shutdown();
+
+        assertThat(outcomes).filteredOn(RotationResult.ROTATED::equals).hasSize(1);
+    }
+
+    @Test
+    void unknownFamiliesAreNotRotated() {
+        assertThat(store.rotate("missing", "jti-1", "jti-2", System.currentTimeMillis() + HOUR))
+                .isEqualTo(RotationResult.UNKNOWN);
+    }
+
+    @Test
+    void expiredFamiliesAreDroppedByTheTimingWheel() throws InterruptedException {
+        store.register("short", "jti-1", System.currentTimeMillis() + 50);
+        store.register("long", "jti-1", System.currentTimeMillis() + HOUR);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (store.liveFamilyCount() > 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(store.liveFamilyCount()).isEqualTo(1);
+        assertThat(store.rotate("short", "jti-1", "jti-2", System.currentTimeMillis() + HOUR))
+                .isEqualTo(RotationResult.UNKNOWN);
+        assertThat(store.rotate("long", "jti-1", "jti-2", System.currentTimeMillis() + HOUR))
+                .isEqualTo(RotationResult.ROTATED);
+    }
+
+    @Test
+    void rotationPushesExpiryOut() throws InterruptedException {
+        store.register("family", "jti-1", System.currentTimeMillis() + 50);
+        store.rotate("family", "jti-1", "jti-2", System.currentTimeMillis() + HOUR);
+
+        Thread.sleep(200);
+
+        assertThat(store.liveFamilyCount()).isEqualTo(1);
+    }
+}
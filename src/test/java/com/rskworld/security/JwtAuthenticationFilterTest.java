@@ -0,0 +1,166 @@
+package com.rskworld.security;
+
+/**
+ * JWT Authentication Filter Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.rskworld.entity.Role;
+import com.rskworld.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private JwtTokenUtil jwtTokenUtil;
+    private JwtAuthenticationFilter filter;
+    private UserDetails userDetails;
+    private UserDetailsService userDetailsService;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenUtil = JwtTestSupport.tokenUtil(JwtTestSupport.keyRing("HS256"), true);
+        userDetails = User.withUsername("alice").password("unused").authorities("ROLE_USER").build();
+
+        userDetailsService = mock(UserDetailsService.class);
+        userService = mock(UserService.class);
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(userDetails);
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtTokenUtil", jwtTokenUtil);
+        ReflectionTestUtils.setField(filter, "userDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(filter, "userService", userService);
+        ReflectionTestUtils.setField(filter, "tokenRevocationService", mock(TokenRevocationService.class));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesAccessTokens() throws Exception {
+        doFilter(jwtTokenUtil.generateToken(userDetails));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("alice");
+    }
+
+    @Test
+    void ignoresRefreshTokens() throws Exception {
+        doFilter(jwtTokenUtil.generateRefreshToken(userDetails, "family-1").getToken());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void ignoresGarbageTokens() throws Exception {
+        doFilter("garbage");
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void statelessModeAuthenticatesFromClaimsWithoutLoadingTheUser() throws Exception {
+        ReflectionTestUtils.setField(jwtTokenUtil, "statelessAuthEnabled", true);
+        when(userService.getSecurityVersion(7L)).thenReturn(3);
+
+        doFilter(jwtTokenUtil.generateToken(user(7L, 3)));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("bob");
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void statelessModeRejectsTokensWithAnOutdatedSecurityVersion() throws Exception {
+        ReflectionTestUtils.setField(jwtTokenUtil, "statelessAuthEnabled", true);
+        when(userService.getSecurityVersion(7L)).thenReturn(4);
+
+        doFilter(jwtTokenUtil.generateToken(user(7L, 3)));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void statelessModeRejectsTokensOfDeletedUsers() throws Exception {
+        ReflectionTestUtils.setField(jwtTokenUtil, "statelessAuthEnabled", true);
+        when(userService.getSecurityVersion(7L)).thenReturn(UserService.REVOKED_SECURITY_VERSION);
+
+        doFilter(jwtTokenUtil.generateToken(user(7L, 0)));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void statelessModeLoadsTheUserForTokensWithoutSecurityClaims() throws Exception {
+        ReflectionTestUtils.setField(jwtTokenUtil, "statelessAuthEnabled", true);
+
+        doFilter(jwtTokenUtil.generateToken(userDetails));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("alice");
+        verify(userDetailsService).loadUserByUsername("alice");
+        verify(userService, never()).getSecurityVersion(7L);
+    }
+
+    @Test
+    void claimsAreIgnoredWhileStatelessModeIsOff() throws Exception {
+        com.rskworld.entity.User bob = user(7L, 3);
+        when(userDetailsService.loadUserByUsername("bob")).thenReturn(bob);
+
+        doFilter(jwtTokenUtil.generateToken(bob));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isSameAs(bob);
+        verify(userService, never()).getSecurityVersion(7L);
+    }
+
+    private static com.rskworld.entity.User user(Long id, int securityVersion) {
+        com.rskworld.entity.User user = new com.rskworld.entity.User("bob", "bob@example.com", "unused");
+        user.setId(id);
+        user.setSecurityVersion(securityVersion);
+        user.setRoles(Set.of(new Role("ROLE_USER"), new Role("ROLE_ADMIN")));
+        return user;
+    }
+
+    private void doFilter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
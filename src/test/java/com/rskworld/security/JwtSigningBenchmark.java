@@ -0,0 +1,79 @@
+package com.rskworld.security;
+
+/**
+ * JWT Signing Benchmark
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verification throughput of HS256 tokens against ES256 tokens looked up by {@code kid}, with the
+ * verified token cache off so every call checks the signature.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    private JwtTokenUtil hmacTokenUtil;
+    private JwtTokenUtil ecTokenUtil;
+    private String hmacToken;
+    private String ecToken;
+
+    @Setup
+    public void setUp() {
+        UserDetails userDetails = User.withUsername("benchmark").password("unused").authorities("ROLE_USER").build();
+        hmacTokenUtil = JwtTestSupport.tokenUtil(JwtTestSupport.keyRing("HS256"), false);
+        ecTokenUtil = JwtTestSupport.tokenUtil(JwtTestSupport.keyRing("ES256"), false);
+        hmacToken = hmacTokenUtil.generateToken(userDetails);
+        ecToken = ecTokenUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public ParsedToken verifyHs256() {
+        return hmacTokenUtil.validate(hmacToken);
+    }
+
+    @Benchmark
+    public ParsedToken verifyEs256() {
+        return ecTokenUtil.validate(ecToken);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtSigningBenchmark.class.getSimpleName()).build()).run();
+    }
+}
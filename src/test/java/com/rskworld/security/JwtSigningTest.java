@@ -0,0 +1,87 @@
+package com.rskworld.security;
+
+/**
+ * JWT Signing Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtSigningTest {
+
+    private UserDetails userDetails;
+    private String hmacToken;
+
+    @BeforeEach
+    void setUp() {
+        userDetails = User.withUsername("alice").password("unused").authorities("ROLE_USER").build();
+        hmacToken = JwtTestSupport.tokenUtil(JwtTestSupport.keyRing("HS256"), false).generateToken(userDetails);
+    }
+
+    @Test
+    void es256TokensVerifyAgainstTheKeyRing() {
+        JwtKeyRing keyRing = JwtTestSupport.keyRing("ES256");
+        JwtTokenUtil jwtTokenUtil = JwtTestSupport.tokenUtil(keyRing, false);
+
+        ParsedToken parsedToken = jwtTokenUtil.validate(jwtTokenUtil.generateToken(userDetails));
+
+        assertThat(parsedToken.getSubject()).isEqualTo("alice");
+        assertThat(keyRing.getPublicJwks()).singleElement()
+                .satisfies(jwk -> assertThat(jwk).containsEntry("kid", keyRing.getActiveKeyId()));
+    }
+
+    @Test
+    void es256RejectsHmacTokensByDefault() {
+        JwtTokenUtil jwtTokenUtil = JwtTestSupport.tokenUtil(JwtTestSupport.keyRing("ES256"), false);
+
+        assertThatThrownBy(() -> jwtTokenUtil.validate(hmacToken)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void es256AcceptsHmacTokensDuringTheGracePeriod() {
+        JwtTokenUtil jwtTokenUtil = JwtTestSupport.tokenUtil(JwtTestSupport.keyRing("ES256"), false,
+                JwtTestSupport.ACCESS_TOKEN_TTL);
+
+        assertThat(jwtTokenUtil.validate(hmacToken).getSubject()).isEqualTo("alice");
+    }
+
+    @Test
+    void hs256AlwaysAcceptsHmacTokens() {
+        JwtTokenUtil jwtTokenUtil = JwtTestSupport.tokenUtil(JwtTestSupport.keyRing("HS256"), false);
+
+        assertThat(jwtTokenUtil.validate(hmacToken).getSubject()).isEqualTo("alice");
+    }
+
+    @Test
+    void keysRetiredByRotationStillVerify() {
+        JwtKeyRing keyRing = JwtTestSupport.keyRing("ES256");
+        JwtTokenUtil jwtTokenUtil = JwtTestSupport.tokenUtil(keyRing, false);
+        String token = jwtTokenUtil.generateToken(userDetails);
+
+        keyRing.rotate();
+
+        assertThat(jwtTokenUtil.validate(token).getSubject()).isEqualTo("alice");
+        assertThat(keyRing.getPublicJwks()).hasSize(2);
+    }
+}
@@ -0,0 +1,62 @@
+package com.rskworld.security;
+
+/**
+ * JWT Test Support
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Builds {@link JwtTokenUtil} instances without a Spring context for tests and benchmarks.
+ */
+final class JwtTestSupport {
+
+    static final String SECRET = "mySecretKey123456789012345678901234567890";
+    static final long ACCESS_TOKEN_TTL = 86_400_000L;
+    static final long REFRESH_TOKEN_TTL = 604_800_000L;
+
+    private JwtTestSupport() {
+    }
+
+    static JwtKeyRing keyRing(String algorithm) {
+        JwtKeyRing keyRing = new JwtKeyRing();
+        ReflectionTestUtils.setField(keyRing, "algorithm", algorithm);
+        ReflectionTestUtils.setField(keyRing, "keyDirectory", "");
+        ReflectionTestUtils.setField(keyRing, "maxTokenLifetime", REFRESH_TOKEN_TTL);
+        keyRing.init();
+        return keyRing;
+    }
+
+    static JwtTokenUtil tokenUtil(JwtKeyRing keyRing, boolean tokenCacheEnabled) {
+        return tokenUtil(keyRing, tokenCacheEnabled, 0);
+    }
+
+    static JwtTokenUtil tokenUtil(JwtKeyRing keyRing, boolean tokenCacheEnabled, long hmacGracePeriod) {
+        JwtTokenUtil tokenUtil = new JwtTokenUtil();
+        ReflectionTestUtils.setField(tokenUtil, "hmacGracePeriod", hmacGracePeriod);
+        ReflectionTestUtils.setField(tokenUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(tokenUtil, "jwtExpiration", ACCESS_TOKEN_TTL);
+        ReflectionTestUtils.setField(tokenUtil, "refreshExpiration", REFRESH_TOKEN_TTL);
+        ReflectionTestUtils.setField(tokenUtil, "verifiedTokenCache",
+                new VerifiedTokenCache(tokenCacheEnabled, 16384, 600_000L, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(tokenUtil, "jwtKeyRing", keyRing);
+        tokenUtil.init();
+        return tokenUtil;
+    }
+}
@@ -0,0 +1,91 @@
+package com.rskworld.security;
+
+/**
+ * JWT Token Util Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenUtilTest {
+
+    private JwtTokenUtil jwtTokenUtil;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenUtil = JwtTestSupport.tokenUtil(JwtTestSupport.keyRing("HS256"), true);
+        userDetails = User.withUsername("alice").password("unused").authorities("ROLE_USER").build();
+    }
+
+    @Test
+    void validateReturnsClaimsOfGeneratedToken() {
+        ParsedToken parsedToken = jwtTokenUtil.validate(jwtTokenUtil.generateToken(userDetails));
+
+        assertThat(parsedToken.getSubject()).isEqualTo("alice");
+        assertThat(parsedToken.getId()).isNotBlank();
+        assertThat(parsedToken.isExpired()).isFalse();
+        assertThat(parsedToken.getFamilyId()).isNull();
+    }
+
+    @Test
+    void validateServesRepeatedTokensFromCache() {
+        String token = jwtTokenUtil.generateToken(userDetails);
+
+        assertThat(jwtTokenUtil.validate(token)).isSameAs(jwtTokenUtil.validate(token));
+    }
+
+    @Test
+    void generateRefreshTokenReturnsTheClaimsItSigned() {
+        IssuedToken refreshToken = jwtTokenUtil.generateRefreshToken(userDetails, "family-1");
+        ParsedToken verified = jwtTokenUtil.verify(refreshToken.getToken());
+
+        assertThat(refreshToken.getParsedToken().getId()).isEqualTo(verified.getId());
+        assertThat(refreshToken.getParsedToken().getSubject()).isEqualTo("alice");
+        assertThat(refreshToken.getParsedToken().getFamilyId()).isEqualTo("family-1");
+        assertThat(refreshToken.getParsedToken().getExpiration().getTime() / 1000)
+                .isEqualTo(verified.getExpiration().getTime() / 1000);
+    }
+
+    @Test
+    void verifyDoesNotFillTheTokenCache() {
+        String token = jwtTokenUtil.generateToken(userDetails);
+
+        assertThat(jwtTokenUtil.verify(token)).isNotSameAs(jwtTokenUtil.verify(token));
+        assertThat(jwtTokenUtil.validate(token)).isNotSameAs(jwtTokenUtil.verify(token));
+    }
+
+    @Test
+    void validateRejectsTamperedSignature() {
+        String token = jwtTokenUtil.generateToken(userDetails);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtTokenUtil.validate(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void validateRejectsGarbage() {
+        assertThatThrownBy(() -> jwtTokenUtil.validate("not-a-token")).isInstanceOf(JwtException.class);
+    }
+}
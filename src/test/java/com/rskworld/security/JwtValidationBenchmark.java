@@ -0,0 +1,103 @@
+package com.rskworld.security;
+
+/**
+ * JWT Validation Benchmark
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of verifying an access token: the original three parses with a key and parser
+ * built each time, against one {@link JwtTokenUtil#validate} with and without the verified token cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private JwtTokenUtil uncachedTokenUtil;
+    private JwtTokenUtil cachedTokenUtil;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing keyRing = JwtTestSupport.keyRing("HS256");
+        uncachedTokenUtil = JwtTestSupport.tokenUtil(keyRing, false);
+        cachedTokenUtil = JwtTestSupport.tokenUtil(keyRing, true);
+        userDetails = User.withUsername("benchmark").password("unused").authorities("ROLE_USER").build();
+        token = uncachedTokenUtil.generateToken(userDetails);
+    }
+
+    /**
+     * {@code extractUsername}, then {@code validateToken}: {@code extractUsername} and
+     * {@code extractExpiration} again.
+     */
+    @Benchmark
+    public boolean parseThreeTimes() {
+        String username = parseWithNewParser(token).getSubject();
+        return username.equals(userDetails.getUsername())
+                && parseWithNewParser(token).getSubject().equals(userDetails.getUsername())
+                && !parseWithNewParser(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public ParsedToken validateOnce() {
+        return uncachedTokenUtil.validate(token);
+    }
+
+    @Benchmark
+    public ParsedToken validateCached() {
+        return cachedTokenUtil.validate(token);
+    }
+
+    private static Claims parseWithNewParser(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(JwtTestSupport.SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtValidationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,79 @@
+package com.rskworld.security;
+
+/**
+ * Role Authority Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.rskworld.entity.Role;
+import com.rskworld.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoleAuthorityTest {
+
+    @Test
+    void internsOneInstancePerRole() {
+        assertThat(RoleAuthority.of("ROLE_ADMIN")).isSameAs(RoleAuthority.ADMIN);
+        assertThat(RoleAuthority.of(new String("ROLE_USER"))).isSameAs(RoleAuthority.USER);
+        assertThat(RoleAuthority.of("ROLE_AUDITOR")).isSameAs(RoleAuthority.of("ROLE_AUDITOR"));
+    }
+
+    @Test
+    void everyRoleOwnsItsOwnBit() {
+        RoleAuthority auditor = RoleAuthority.of("ROLE_AUDITOR");
+
+        assertThat(Long.bitCount(auditor.bit())).isEqualTo(1);
+        assertThat(auditor.bit() & (RoleAuthority.ADMIN.bit() | RoleAuthority.USER.bit() | RoleAuthority.MANAGER.bit()))
+                .isZero();
+    }
+
+    @Test
+    void masksPlainAndInternedAuthoritiesAlike() {
+        long mask = RoleAuthority.mask(List.of(RoleAuthority.ADMIN, new SimpleGrantedAuthority("ROLE_USER")));
+
+        assertThat(mask).isEqualTo(RoleAuthority.ADMIN.bit() | RoleAuthority.USER.bit());
+    }
+
+    @Test
+    void equalsOtherAuthoritiesWithTheSameName() {
+        assertThat(RoleAuthority.ADMIN).isEqualTo(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        assertThat(RoleAuthority.ADMIN).hasSameHashCodeAs(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        assertThat(RoleAuthority.ADMIN).isNotEqualTo(RoleAuthority.USER);
+    }
+
+    @Test
+    void usersShareTheInternedAuthorities() {
+        User first = new User("alice", "alice@example.com", "unused");
+        first.setRoles(Set.of(new Role("ROLE_USER"), new Role("ROLE_MANAGER")));
+        User second = new User("bob", "bob@example.com", "unused");
+        second.setRoles(Set.of(new Role("ROLE_USER")));
+
+        List<GrantedAuthority> firstAuthorities = List.copyOf(first.getAuthorities());
+        List<GrantedAuthority> secondAuthorities = List.copyOf(second.getAuthorities());
+
+        assertThat(firstAuthorities).containsExactlyInAnyOrder(RoleAuthority.USER, RoleAuthority.MANAGER);
+        assertThat(secondAuthorities).singleElement().isSameAs(RoleAuthority.USER);
+        assertThat(first.getRoleMask()).isEqualTo(RoleAuthority.USER.bit() | RoleAuthority.MANAGER.bit());
+    }
+}
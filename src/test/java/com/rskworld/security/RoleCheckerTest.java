@@ -0,0 +1,68 @@
+package com.rskworld.security;
+
+/**
+ * Role Checker Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.rskworld.entity.Role;
+import com.rskworld.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoleCheckerTest {
+
+    private final RoleChecker roleChecker = new RoleChecker();
+
+    @Test
+    void checksTheRoleMaskOfLoadedUsers() {
+        User user = new User("alice", "alice@example.com", "unused");
+        user.setRoles(Set.of(new Role("ROLE_MANAGER")));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+
+        assertThat(roleChecker.hasRole(authentication, "MANAGER")).isTrue();
+        assertThat(roleChecker.hasRole(authentication, "ROLE_MANAGER")).isTrue();
+        assertThat(roleChecker.hasRole(authentication, "ADMIN")).isFalse();
+    }
+
+    @Test
+    void checksTheAuthoritiesOfOtherPrincipals() {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("alice", null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER")));
+
+        assertThat(roleChecker.hasRole(authentication, "ADMIN")).isTrue();
+        assertThat(roleChecker.hasRole(authentication, "USER")).isTrue();
+        assertThat(roleChecker.hasRole(authentication, "MANAGER")).isFalse();
+    }
+
+    @Test
+    void deniesMissingOrUnauthenticatedAuthentications() {
+        TestingAuthenticationToken unauthenticated = new TestingAuthenticationToken("alice", null, "ROLE_ADMIN");
+        unauthenticated.setAuthenticated(false);
+
+        assertThat(roleChecker.hasRole(null, "ADMIN")).isFalse();
+        assertThat(roleChecker.hasRole(unauthenticated, "ADMIN")).isFalse();
+    }
+}
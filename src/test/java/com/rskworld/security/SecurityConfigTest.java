@@ -0,0 +1,62 @@
+package com.rskworld.security;
+
+/**
+ * Security Config Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityConfigTest {
+
+    private final RequestMatcher probeEndpoints = SecurityConfig.probeEndpointMatcher();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/health", "/actuator/health", "/actuator/health/liveness",
+            "/actuator/health/readiness", "/.well-known/jwks.json"})
+    void probeChainMatchesHealthAndJwksEndpoints(String path) {
+        assertThat(probeEndpoints.matches(request(path))).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/", "/api-docs", "/api-docs/swagger-config", "/swagger-ui/index.html",
+            "/swagger-ui.html", "/products", "/products/1", "/auth/login", "/auth/refresh", "/users/me",
+            "/actuator/metrics", "/actuator/prometheus", "/healthz", "/h2-console"})
+    void probeChainLeavesEverythingElseToTheMainChain(String path) {
+        assertThat(probeEndpoints.matches(request(path))).isFalse();
+    }
+
+    @Test
+    void probeChainIgnoresTheHttpMethod() {
+        MockHttpServletRequest request = request("/actuator/health");
+        request.setMethod("HEAD");
+
+        assertThat(probeEndpoints.matches(request)).isTrue();
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
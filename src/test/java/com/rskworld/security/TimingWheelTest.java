@@ -0,0 +1,84 @@
+package com.rskworld.security;
+
+/**
+ * Timing Wheel Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private static final long TICK = 10;
+
+    private final List<String> expired = new ArrayList<>();
+
+    @Test
+    void firesEntriesOnceTheirDeadlineHasPassed() {
+        long start = System.currentTimeMillis();
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 4, expired::add);
+        wheel.schedule("soon", start + 200);
+        wheel.schedule("later", start + 400);
+
+        wheel.advance(start + 150);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(start + 300);
+        assertThat(expired).containsExactly("soon");
+
+        wheel.advance(start + 500);
+        assertThat(expired).containsExactly("soon", "later");
+    }
+
+    @Test
+    void cascadesEntriesFromHigherLevels() {
+        long start = System.currentTimeMillis();
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 4, expired::add);
+        // 64 slots per level, so these sit on the second and third level
+        wheel.schedule("level-1", start + 5_000);
+        wheel.schedule("level-2", start + 50_000);
+
+        wheel.advance(start + 4_900);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(start + 5_100);
+        assertThat(expired).containsExactly("level-1");
+
+        wheel.advance(start + 49_900);
+        assertThat(expired).containsExactly("level-1");
+
+        wheel.advance(start + 50_100);
+        assertThat(expired).containsExactly("level-1", "level-2");
+    }
+
+    @Test
+    void pastDeadlinesFireOnTheNextTick() {
+        long start = System.currentTimeMillis();
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 4, expired::add);
+        wheel.advance(start + 1_000);
+
+        wheel.schedule("overdue", start);
+        wheel.advance(start + 1_100);
+
+        assertThat(expired).containsExactly("overdue");
+    }
+}
@@ -0,0 +1,120 @@
+package com.rskworld.security;
+
+/**
+ * Token Revocation Service Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceTest {
+
+    private ZSetOperations<String, String> zSetOperations;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        tokenRevocationService = new TokenRevocationService();
+        ReflectionTestUtils.setField(tokenRevocationService, "stringRedisTemplate", stringRedisTemplate);
+        ReflectionTestUtils.setField(tokenRevocationService, "redisMessageListenerContainer",
+                mock(RedisMessageListenerContainer.class));
+        ReflectionTestUtils.setField(tokenRevocationService, "verifiedTokenCache",
+                new VerifiedTokenCache(true, 16, 600_000L, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedInsertions", 1000L);
+        ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveRate", 0.001);
+        ReflectionTestUtils.setField(tokenRevocationService, "retryInterval", 1000L);
+    }
+
+    @Test
+    void failsClosedWhileTheFilterHasNeverLoaded() {
+        RedisConnectionFailureException redisDown = new RedisConnectionFailureException("down");
+        when(zSetOperations.removeRangeByScore(anyString(), anyDouble(), anyDouble())).thenThrow(redisDown);
+        when(zSetOperations.score(anyString(), anyString())).thenThrow(redisDown);
+
+        tokenRevocationService.init();
+
+        assertThat(tokenRevocationService.isLoaded()).isFalse();
+        assertThat(tokenRevocationService.isRevoked("never-revoked")).isTrue();
+    }
+
+    @Test
+    void asksRedisForEveryTokenUntilLoaded() {
+        when(zSetOperations.removeRangeByScore(anyString(), anyDouble(), anyDouble()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(zSetOperations.score(TokenRevocationService.REVOKED_TOKENS_KEY, "revoked-elsewhere")).thenReturn(1.0);
+        when(zSetOperations.score(TokenRevocationService.REVOKED_TOKENS_KEY, "active")).thenReturn(null);
+
+        tokenRevocationService.init();
+
+        assertThat(tokenRevocationService.isRevoked("revoked-elsewhere")).isTrue();
+        assertThat(tokenRevocationService.isRevoked("active")).isFalse();
+        verify(zSetOperations).score(TokenRevocationService.REVOKED_TOKENS_KEY, "active");
+    }
+
+    @Test
+    void skipsRedisForTokensOutsideTheLoadedFilter() {
+        when(zSetOperations.rangeByScore(eq(TokenRevocationService.REVOKED_TOKENS_KEY), anyDouble(), anyDouble(),
+                anyLong(), anyLong())).thenReturn(Set.of("revoked"));
+        when(zSetOperations.score(TokenRevocationService.REVOKED_TOKENS_KEY, "revoked")).thenReturn(1.0);
+
+        tokenRevocationService.init();
+
+        assertThat(tokenRevocationService.isLoaded()).isTrue();
+        assertThat(tokenRevocationService.isRevoked("revoked")).isTrue();
+        assertThat(tokenRevocationService.isRevoked("active")).isFalse();
+        verify(zSetOperations, never()).score(TokenRevocationService.REVOKED_TOKENS_KEY, "active");
+    }
+
+    @Test
+    void retryLoadsTheFilterOnceRedisIsBack() {
+        when(zSetOperations.removeRangeByScore(anyString(), anyDouble(), anyDouble()))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(0L);
+        when(zSetOperations.rangeByScore(eq(TokenRevocationService.REVOKED_TOKENS_KEY), anyDouble(), anyDouble(),
+                anyLong(), anyLong())).thenReturn(Set.of());
+
+        tokenRevocationService.init();
+        ReflectionTestUtils.setField(tokenRevocationService, "nextLoadAttemptAt", 0L);
+        tokenRevocationService.retryLoad();
+
+        assertThat(tokenRevocationService.isLoaded()).isTrue();
+    }
+}
@@ -0,0 +1,106 @@
+package com.rskworld.service;
+
+/**
+ * Password Hashing Service Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PasswordEncoder passwordEncoder;
+    private ExecutorService completionExecutor;
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = mock(PasswordEncoder.class);
+        completionExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "completion"));
+
+        passwordHashingService = new PasswordHashingService(1, 1);
+        ReflectionTestUtils.setField(passwordHashingService, "passwordEncoder", passwordEncoder);
+        ReflectionTestUtils.setField(passwordHashingService, "authenticationManager", mock(AuthenticationManager.class));
+        ReflectionTestUtils.setField(passwordHashingService, "completionExecutor", completionExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHashingService.shutdown();
+        completionExecutor.shutdownNow();
+    }
+
+    @Test
+    void hashesOffTheCallerAndCompletesOnTheApplicationExecutor() throws Exception {
+        when(passwordEncoder.encode("secret")).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread().getName()).startsWith("password-hashing-");
+            return "hash";
+        });
+
+        CompletableFuture<String> threadName = passwordHashingService.encode("secret")
+                .thenApply(hash -> hash + "@" + Thread.currentThread().getName());
+
+        assertThat(threadName.get(5, TimeUnit.SECONDS)).isEqualTo("hash@completion");
+    }
+
+    @Test
+    void rejectsStraightAwayWhenThePoolAndQueueAreFull() throws Exception {
+        when(passwordEncoder.encode(any())).thenAnswer(invocation -> {
+            hashing.countDown();
+            release.await();
+            return "hash";
+        });
+
+        CompletableFuture<String> running = passwordHashingService.encode("first");
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = passwordHashingService.encode("second");
+
+        assertThatThrownBy(() -> passwordHashingService.encode("third"))
+                .isInstanceOf(RejectedExecutionException.class);
+        Authentication login = new UsernamePasswordAuthenticationToken("alice", "secret");
+        assertThatThrownBy(() -> passwordHashingService.authenticate(login))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+}
@@ -0,0 +1,120 @@
+package com.rskworld.service;
+
+/**
+ * Product Cursor Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCursorTest {
+
+    static Stream<Arguments> sortsAndDirections() {
+        Map<ProductSort, Object> values = Map.of(
+                ProductSort.ID, 42L,
+                ProductSort.NAME, "Widget\nPro",
+                ProductSort.PRICE, new BigDecimal("19.90"),
+                ProductSort.CREATED_AT, LocalDateTime.of(2026, 1, 2, 3, 4, 5, 6000));
+        return Stream.of(ProductSort.values())
+                .flatMap(sort -> Stream.of(Sort.Direction.values())
+                        .map(direction -> Arguments.of(sort, direction, values.get(sort))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sortsAndDirections")
+    void roundTripsTheLastSeenKeys(ProductSort sort, Sort.Direction direction, Object value) {
+        String cursor = ProductCursor.encode(sort, direction, position(sort, 42L, value));
+
+        ScrollPosition decoded = ProductCursor.decode(cursor, sort, direction);
+
+        assertThat(decoded).isInstanceOf(KeysetScrollPosition.class);
+        KeysetScrollPosition keyset = (KeysetScrollPosition) decoded;
+        assertThat(keyset.getDirection()).isEqualTo(ScrollPosition.Direction.FORWARD);
+        assertThat(keyset.getKeys())
+                .containsEntry("id", 42L)
+                .containsEntry(sort.getProperty(), value);
+    }
+
+    @Test
+    void encodesUrlSafely() {
+        String cursor = ProductCursor.encode(ProductSort.NAME, Sort.Direction.ASC,
+                position(ProductSort.NAME, 1L, "??>>~~"));
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void startsFromTheBeginningWithoutACursor() {
+        assertThat(ProductCursor.decode(null, ProductSort.ID, Sort.Direction.ASC).isInitial()).isTrue();
+        assertThat(ProductCursor.decode("", ProductSort.ID, Sort.Direction.ASC).isInitial()).isTrue();
+    }
+
+    @Test
+    void rejectsACursorIssuedForAnotherSort() {
+        String cursor = ProductCursor.encode(ProductSort.PRICE, Sort.Direction.ASC,
+                position(ProductSort.PRICE, 1L, new BigDecimal("5.00")));
+
+        assertThatThrownBy(() -> ProductCursor.decode(cursor, ProductSort.NAME, Sort.Direction.ASC))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductCursor.decode(cursor, ProductSort.PRICE, Sort.Direction.DESC))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsACursorThatIsNotBase64() {
+        assertThatThrownBy(() -> ProductCursor.decode("not a cursor!", ProductSort.ID, Sort.Direction.ASC))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsATamperedCursor() {
+        assertThatThrownBy(() -> ProductCursor.decode(raw("ID\nASC\nabc\n1"), ProductSort.ID, Sort.Direction.ASC))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductCursor.decode(raw("PRICE\nASC\n1\ncheap"), ProductSort.PRICE, Sort.Direction.ASC))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductCursor.decode(raw("CREATED_AT\nDESC\n1"), ProductSort.CREATED_AT, Sort.Direction.DESC))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static KeysetScrollPosition position(ProductSort sort, Long id, Object value) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sort.getProperty(), value);
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+
+    private static String raw(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
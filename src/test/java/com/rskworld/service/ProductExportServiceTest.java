@@ -0,0 +1,113 @@
+package com.rskworld.service;
+
+/**
+ * Product Export Service Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductExportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JdbcTemplate jdbcTemplate;
+    private ProductExportService productExportService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:export;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE products (id BIGINT PRIMARY KEY, name VARCHAR(100), description VARCHAR(1000), "
+                + "price DECIMAL(10, 2), quantity INT, sku VARCHAR(50), category VARCHAR(50), brand VARCHAR(50), "
+                + "image_url VARCHAR(255), active BOOLEAN, created_at TIMESTAMP, updated_at TIMESTAMP)");
+        for (long id = 1; id <= 7; id++) {
+            jdbcTemplate.update("INSERT INTO products (id, name, description, price, quantity, sku, active, created_at) "
+                            + "VALUES (?, ?, 'Line one\nline two', 9.99, ?, ?, ?, TIMESTAMP '2026-01-02 03:04:05')",
+                    id, "Product " + id, id == 2 ? null : (int) id, "SKU-" + id, id != 5);
+        }
+
+        productExportService = new ProductExportService();
+        ReflectionTestUtils.setField(productExportService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(productExportService, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(productExportService, "fetchSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE products");
+    }
+
+    @Test
+    void writesOneActiveProductPerLineInIdOrder() throws Exception {
+        List<JsonNode> products = export(null);
+
+        assertThat(products).extracting(product -> product.get("id").asLong()).containsExactly(1L, 2L, 3L, 4L, 6L, 7L);
+        JsonNode first = products.get(0);
+        assertThat(first.get("description").asText()).isEqualTo("Line one\nline two");
+        assertThat(first.get("price").decimalValue()).isEqualByComparingTo("9.99");
+        assertThat(first.get("createdAt").asText()).isEqualTo("2026-01-02T03:04:05");
+        assertThat(first.get("updatedAt").isNull()).isTrue();
+        assertThat(products.get(1).get("quantity").isNull()).isTrue();
+    }
+
+    @Test
+    void resumesAfterTheLastIdReceived() throws Exception {
+        assertThat(export(4L)).extracting(product -> product.get("id").asLong()).containsExactly(6L, 7L);
+        assertThat(export(7L)).isEmpty();
+    }
+
+    @Test
+    void leavesTheTargetStreamOpen() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                throw new AssertionError("export closed the response stream");
+            }
+        };
+
+        productExportService.exportActiveProducts(6L, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith("}\n");
+    }
+
+    private List<JsonNode> export(Long afterId) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        productExportService.exportActiveProducts(afterId, out);
+
+        List<JsonNode> products = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                products.add(objectMapper.readTree(line));
+            }
+        }
+        return products;
+    }
+}
@@ -0,0 +1,123 @@
+package com.rskworld.service;
+
+/**
+ * Product Service Batch Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.rskworld.cache.TwoLevelCacheManager;
+import com.rskworld.dto.ProductLookupResult;
+import com.rskworld.entity.Product;
+import com.rskworld.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductServiceBatchTest {
+
+    private ProductRepository productRepository;
+    private TwoLevelCacheManager cacheManager;
+    private ValueOperations<String, Object> valueOperations;
+    private Cache cache;
+    private ProductService productService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        cacheManager = mock(TwoLevelCacheManager.class);
+        cache = mock(Cache.class);
+        when(cacheManager.getCache("products")).thenReturn(cache);
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        productService = new ProductService();
+        ReflectionTestUtils.setField(productService, "productRepository", productRepository);
+        ReflectionTestUtils.setField(productService, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(productService, "redisTemplate", redisTemplate);
+        ReflectionTestUtils.setField(productService, "cacheConfiguration", RedisCacheConfiguration.defaultCacheConfig());
+    }
+
+    @Test
+    void resolvesEachTierOnceAndAnswersInRequestOrder() {
+        Product local = product(1L, "SKU-1");
+        Product remote = product(3L, "SKU-3");
+        Product loaded = product(5L, "SKU-5");
+        when(cacheManager.getLocal("products", "1")).thenReturn(local);
+        when(valueOperations.multiGet(List.of("products::3", "products::99", "products::5")))
+                .thenReturn(Arrays.asList(remote, null, null));
+        when(productRepository.findByIdIn(List.of(99L, 5L))).thenReturn(List.of(loaded));
+
+        List<ProductLookupResult> results = productService.getProductsByIds(List.of(3L, 1L, 99L, 5L, 3L));
+
+        assertThat(results).extracting(ProductLookupResult::getId).containsExactly(3L, 1L, 99L, 5L, 3L);
+        assertThat(results).extracting(ProductLookupResult::isFound).containsExactly(true, true, false, true, true);
+        assertThat(results).extracting(ProductLookupResult::getProduct).containsExactly(remote, local, null, loaded, remote);
+        verify(cacheManager).putLocal("products", "3", remote);
+        verify(cache).put("5", loaded);
+    }
+
+    @Test
+    void skipsRedisAndTheDatabaseWhenEverythingIsLocal() {
+        Product local = product(1L, "SKU-1");
+        when(cacheManager.getLocal("products", "1")).thenReturn(local);
+
+        List<ProductLookupResult> results = productService.getProductsByIds(List.of(1L));
+
+        assertThat(results).singleElement().extracting(ProductLookupResult::getProduct).isSameAs(local);
+        verify(valueOperations, never()).multiGet(anyList());
+        verify(productRepository, never()).findByIdIn(any());
+    }
+
+    @Test
+    void sharesSkuEntriesWithSingleLookups() {
+        Product loaded = product(7L, "SKU-7");
+        when(valueOperations.multiGet(List.of("products::sku_SKU-7", "products::sku_MISSING")))
+                .thenReturn(Arrays.asList(null, null));
+        when(productRepository.findBySkuIn(List.of("SKU-7", "MISSING"))).thenReturn(List.of(loaded));
+
+        List<ProductLookupResult> results = productService.getProductsBySkus(List.of("SKU-7", "MISSING"));
+
+        assertThat(results).extracting(ProductLookupResult::getSku).containsExactly("SKU-7", "MISSING");
+        assertThat(results).extracting(ProductLookupResult::isFound).containsExactly(true, false);
+        verify(cache).put("sku_SKU-7", loaded);
+    }
+
+    private static Product product(Long id, String sku) {
+        Product product = new Product("Product " + id, "", new BigDecimal("1.00"), 1);
+        product.setId(id);
+        product.setSku(sku);
+        return product;
+    }
+}
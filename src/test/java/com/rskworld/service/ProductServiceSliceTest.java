@@ -0,0 +1,136 @@
+package com.rskworld.service;
+
+/**
+ * Product Service Slice Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.rskworld.dto.CursorSliceResponse;
+import com.rskworld.entity.Product;
+import com.rskworld.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductServiceSliceTest {
+
+    private ProductRepository productRepository;
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        productService = new ProductService();
+        ReflectionTestUtils.setField(productService, "productRepository", productRepository);
+    }
+
+    static Stream<Arguments> sortsAndDirections() {
+        return Stream.of(ProductSort.values())
+                .flatMap(sort -> Stream.of(Sort.Direction.values()).map(direction -> Arguments.of(sort, direction)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sortsAndDirections")
+    void nextCursorSeeksPastTheLastProductOfThePage(ProductSort sort, Sort.Direction direction) {
+        Product first = product(1L, "Alpha", "10.00", LocalDateTime.of(2026, 3, 1, 9, 0));
+        Product last = product(2L, "Beta", "12.50", LocalDateTime.of(2026, 3, 2, 9, 30, 15));
+        when(productRepository.findByActiveTrue(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(first, last), i -> keysOf(sort, i == 0 ? first : last), true));
+
+        CursorSliceResponse<Product> page = productService.getActiveProductsSlice(sort, direction, null, 2);
+
+        assertThat(page.getContent()).containsExactly(first, last);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isNotBlank();
+
+        productService.getActiveProductsSlice(sort, direction, page.getNextCursor(), 2);
+
+        ArgumentCaptor<ScrollPosition> position = ArgumentCaptor.forClass(ScrollPosition.class);
+        ArgumentCaptor<Sort> order = ArgumentCaptor.forClass(Sort.class);
+        verify(productRepository, times(2))
+                .findByActiveTrue(position.capture(), order.capture(), any(Limit.class));
+        assertThat(position.getAllValues().get(0).isInitial()).isTrue();
+        assertThat(((KeysetScrollPosition) position.getAllValues().get(1)).getKeys())
+                .isEqualTo(keysOf(sort, last).getKeys());
+        assertThat(order.getValue().getOrderFor("id").getDirection()).isEqualTo(direction);
+        assertThat(order.getValue().getOrderFor(sort.getProperty()).getDirection()).isEqualTo(direction);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        Product only = product(1L, "Alpha", "10.00", LocalDateTime.of(2026, 3, 1, 9, 0));
+        when(productRepository.findByActiveTrue(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(only), i -> keysOf(ProductSort.ID, only), false));
+
+        CursorSliceResponse<Product> page = productService.getActiveProductsSlice(ProductSort.ID, Sort.Direction.ASC, "", 10);
+
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void rejectsAnInvalidCursorWithoutQuerying() {
+        assertThatThrownBy(() -> productService.getActiveProductsSlice(ProductSort.NAME, Sort.Direction.ASC, "%%%", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(productRepository, never()).findByActiveTrue(any(ScrollPosition.class), any(Sort.class), any(Limit.class));
+    }
+
+    private static KeysetScrollPosition keysOf(ProductSort sort, Product product) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("id", product.getId());
+        switch (sort) {
+            case NAME -> keys.put("name", product.getName());
+            case PRICE -> keys.put("price", product.getPrice());
+            case CREATED_AT -> keys.put("createdAt", product.getCreatedAt());
+            default -> { }
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Product product(Long id, String name, String price, LocalDateTime createdAt) {
+        Product product = new Product(name, "", new BigDecimal(price), 1);
+        product.setId(id);
+        product.setCreatedAt(createdAt);
+        return product;
+    }
+}
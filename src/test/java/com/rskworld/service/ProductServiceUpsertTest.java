@@ -0,0 +1,143 @@
+package com.rskworld.service;
+
+/**
+ * Product Service Upsert Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.rskworld.cache.TwoLevelCacheManager;
+import com.rskworld.dto.ProductUpsertResult;
+import com.rskworld.dto.ProductUpsertResult.Status;
+import com.rskworld.entity.Product;
+import com.rskworld.event.ProductChangedEvent;
+import com.rskworld.repository.ProductRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductServiceUpsertTest {
+
+    private ValidatorFactory validatorFactory;
+    private ProductRepository productRepository;
+    private TwoLevelCacheManager cacheManager;
+    private ApplicationEventPublisher eventPublisher;
+    private ProductService productService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        productRepository = mock(ProductRepository.class);
+        cacheManager = mock(TwoLevelCacheManager.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        AtomicLong ids = new AtomicLong(100);
+        when(productRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Product> products = invocation.getArgument(0);
+            products.stream().filter(product -> product.getId() == null)
+                    .forEach(product -> product.setId(ids.incrementAndGet()));
+            return List.copyOf(products);
+        });
+
+        productService = new ProductService();
+        ReflectionTestUtils.setField(productService, "productRepository", productRepository);
+        ReflectionTestUtils.setField(productService, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(productService, "eventPublisher", eventPublisher);
+        ReflectionTestUtils.setField(productService, "validator", validatorFactory.getValidator());
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void reportsAnOutcomePerRowInRequestOrder() {
+        Product existing = product("OLD-1", "Old name", "5.00");
+        existing.setId(7L);
+        when(productRepository.findBySkuIn(Set.of("NEW-1", "OLD-1"))).thenReturn(List.of(existing));
+
+        List<ProductUpsertResult> results = productService.upsertProducts(List.of(
+                product("NEW-1", "Keyboard", "49.99"),
+                product("BAD-1", "", "-1"),
+                product("OLD-1", "New name", "6.00"),
+                product("NEW-1", "Keyboard again", "49.99"),
+                product(null, "No SKU", "1.00")));
+
+        assertThat(results).extracting(ProductUpsertResult::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(results).extracting(ProductUpsertResult::getStatus)
+                .containsExactly(Status.CREATED, Status.REJECTED, Status.UPDATED, Status.REJECTED, Status.REJECTED);
+        assertThat(results).extracting(ProductUpsertResult::getId).containsExactly(101L, null, 7L, null, null);
+        assertThat(results.get(1).getErrors()).containsExactly("name: must not be blank",
+                "price: must be greater than 0.0");
+        assertThat(results.get(3).getErrors()).containsExactly("sku: appears more than once in the batch");
+        assertThat(results.get(4).getErrors()).containsExactly("sku: must not be blank");
+        assertThat(existing.getName()).isEqualTo("New name");
+        assertThat(existing.getPrice()).isEqualByComparingTo("6.00");
+    }
+
+    @Test
+    void looksUpSkusAndEvictsOncePerBatch() {
+        when(productRepository.findBySkuIn(any())).thenReturn(List.of());
+
+        productService.upsertProducts(List.of(product("A", "A", "1.00"), product("B", "B", "2.00")));
+
+        verify(productRepository, times(1)).findBySkuIn(any());
+        verify(productRepository, times(1)).saveAll(anyCollection());
+        verify(cacheManager, times(1)).evict(eq("products"), anyCollection(), anyCollection());
+        ArgumentCaptor<ProductChangedEvent> event = ArgumentCaptor.forClass(ProductChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getProductIds()).containsExactly(101L, 102L);
+    }
+
+    @Test
+    void anAllInvalidBatchWritesNothing() {
+        List<ProductUpsertResult> results = productService.upsertProducts(List.of(product("A", "", "1.00")));
+
+        assertThat(results).singleElement().extracting(ProductUpsertResult::getStatus).isEqualTo(Status.REJECTED);
+        verify(productRepository, never()).findBySkuIn(any());
+        verify(productRepository, never()).saveAll(anyCollection());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private static Product product(String sku, String name, String price) {
+        Product product = new Product(name, "", new BigDecimal(price), 1);
+        product.setSku(sku);
+        return product;
+    }
+}
@@ -0,0 +1,109 @@
+package com.rskworld.service;
+
+/**
+ * User Service Test
+ * 
+ * Enterprise-grade REST API with Spring Boot framework
+ * Features JWT authentication, database integration, caching, and comprehensive API documentation
+ * 
+ * @author RSK World
+ * @author Molla Samser (Founder)
+ * @author Rima Khatun (Designer & Tester)
+ * @website https://rskworld.in
+ * @contact help@rskworld.in, support@rskworld.in
+ * @phone +91 93305 39277
+ * @address Nutanhat, Mongolkote, Purba Burdwan, West Bengal, India, 713147
+ * @year 2026
+ * 
+ * This project is part of RSK World's free programming resources and source code collection.
+ * Content used for educational purposes only. View Disclaimer: https://rskworld.in/disclaimer.php
+ */
+
+import com.rskworld.cache.TwoLevelCacheManager;
+import com.rskworld.entity.User;
+import com.rskworld.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+    private UserRepository userRepository;
+    private UserService userService;
+    private User stored;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(any())).thenReturn("encoded");
+
+        userService = new UserService();
+        ReflectionTestUtils.setField(userService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(userService, "cacheManager", mock(TwoLevelCacheManager.class));
+        ReflectionTestUtils.setField(userService, "passwordEncoder", passwordEncoder);
+
+        stored = new User("bob", "bob@example.com", "old");
+        stored.setId(7L);
+        stored.setSecurityVersion(2);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(stored));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void changingThePasswordBumpsTheSecurityVersion() {
+        userService.updateUser(7L, details("bob", "new-password", true));
+
+        assertThat(stored.getSecurityVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void disablingOrRenamingBumpsTheSecurityVersion() {
+        userService.updateUser(7L, details("bob", null, false));
+        assertThat(stored.getSecurityVersion()).isEqualTo(3);
+
+        userService.updateUser(7L, details("robert", null, false));
+        assertThat(stored.getSecurityVersion()).isEqualTo(4);
+    }
+
+    @Test
+    void profileChangesKeepIssuedTokensValid() {
+        User details = details("bob", "", true);
+        details.setFirstName("Bob");
+
+        userService.updateUser(7L, details);
+
+        assertThat(stored.getSecurityVersion()).isEqualTo(2);
+    }
+
+    @Test
+    void deletingBumpsTheSecurityVersion() {
+        userService.deleteUser(7L);
+
+        assertThat(stored.getEnabled()).isFalse();
+        assertThat(stored.getSecurityVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void missingOrDisabledUsersHaveARevokedSecurityVersion() {
+        when(userRepository.findActiveSecurityVersionById(7L)).thenReturn(Optional.of(2));
+        when(userRepository.findActiveSecurityVersionById(8L)).thenReturn(Optional.empty());
+
+        assertThat(userService.getSecurityVersion(7L)).isEqualTo(2);
+        assertThat(userService.getSecurityVersion(8L)).isEqualTo(UserService.REVOKED_SECURITY_VERSION);
+    }
+
+    private static User details(String username, String password, boolean enabled) {
+        User details = new User(username, "bob@example.com", password);
+        details.setEnabled(enabled);
+        return details;
+    }
+}